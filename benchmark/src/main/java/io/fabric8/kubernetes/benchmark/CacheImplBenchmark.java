@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.benchmark;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link CacheImpl} under a mixed load similar to an operator: a single watch thread
+ * updating items while several reconciler threads query the indexes.
+ */
+@State(Scope.Group)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+public class CacheImplBenchmark {
+
+  private static final String NODE_INDEX = "node";
+
+  @Param({ "1000", "10000" })
+  int size;
+
+  private CacheImpl<Pod> cache;
+  private Pod[] pods;
+
+  @Setup
+  public void setup() {
+    cache = new CacheImpl<>();
+    cache.addIndexFunc(NODE_INDEX, pod -> Collections.singletonList(pod.getSpec().getNodeName()));
+    pods = new Pod[size];
+    for (int i = 0; i < size; i++) {
+      pods[i] = pod(i, 0);
+      cache.put(pods[i]);
+    }
+  }
+
+  private static Pod pod(int i, int version) {
+    return new PodBuilder()
+        .withNewMetadata()
+        .withName("pod-" + i)
+        .withNamespace("ns-" + (i % 10))
+        .withResourceVersion(String.valueOf(version))
+        .endMetadata()
+        .withNewSpec()
+        .withNodeName("node-" + (i % 100))
+        .endSpec()
+        .build();
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+    int next;
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(1)
+  public Pod update(Cursor cursor) {
+    int i = cursor.next++ % pods.length;
+    Pod pod = pods[i];
+    pod.getMetadata().setResourceVersion(String.valueOf(cursor.next));
+    return cache.put(pod);
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(4)
+  public List<Pod> byNamespace(Cursor cursor) {
+    return cache.byIndex(Cache.NAMESPACE_INDEX, "ns-" + (cursor.next++ % 10));
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(4)
+  public List<Pod> byNode(Cursor cursor) {
+    return cache.byIndex(NODE_INDEX, "node-" + (cursor.next++ % 100));
+  }
+
+  @Benchmark
+  @Group("churn")
+  @GroupThreads(1)
+  public Pod replace(Cursor cursor) {
+    // removes and re-adds items, which modifies the index values
+    int i = cursor.next++ % pods.length;
+    cache.remove(pods[i]);
+    return cache.put(pods[i]);
+  }
+
+  @Benchmark
+  @Group("churn")
+  @GroupThreads(4)
+  public List<Pod> churnByNamespace(Cursor cursor) {
+    return cache.byIndex(Cache.NAMESPACE_INDEX, "ns-" + (cursor.next++ % 10));
+  }
+}
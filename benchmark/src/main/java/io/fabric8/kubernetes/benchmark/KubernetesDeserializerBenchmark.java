@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.internal.KubernetesDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single pass {@link KubernetesDeserializer} with reading the full tree, resolving the type,
+ * and then converting the tree - which is how resources were previously deserialized.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+public class KubernetesDeserializerBenchmark {
+
+  @Param({ "Pod", "ConfigMap", "GenericKubernetesResource" })
+  public String payload;
+
+  private ObjectMapper mapper;
+  private KubernetesDeserializer deserializer;
+  private byte[] json;
+
+  @Setup
+  public void setup() throws IOException {
+    mapper = new ObjectMapper();
+    deserializer = new KubernetesDeserializer();
+    json = mapper.writeValueAsBytes(createPayload());
+  }
+
+  @Benchmark
+  public KubernetesResource singlePass() throws IOException {
+    return mapper.readValue(json, KubernetesResource.class);
+  }
+
+  @Benchmark
+  public KubernetesResource tree() throws IOException {
+    JsonNode node = mapper.readTree(json);
+    Class<? extends KubernetesResource> type = deserializer.getRegisteredKind(node.get("apiVersion").textValue(),
+        node.get("kind").textValue());
+    if (type == null) {
+      type = GenericKubernetesResource.class;
+    }
+    return mapper.treeToValue(node, type);
+  }
+
+  private Object createPayload() {
+    switch (payload) {
+      case "Pod":
+        return new PodBuilder()
+            .withNewMetadata()
+            .withName("benchmark-pod")
+            .withNamespace("default")
+            .withResourceVersion("123456")
+            .withUid("5e4a3b2c-1d0e-4f9a-8b7c-6d5e4f3a2b1c")
+            .withLabels(entries("label", 5))
+            .withAnnotations(entries("annotation", 5))
+            .endMetadata()
+            .withNewSpec()
+            .addNewContainer()
+            .withName("app")
+            .withImage("quay.io/example/app:1.0")
+            .addToArgs("--port=8080", "--verbose")
+            .addNewEnv().withName("MODE").withValue("benchmark").endEnv()
+            .addNewPort().withContainerPort(8080).withProtocol("TCP").endPort()
+            .withNewResources()
+            .withRequests(Collections.singletonMap("cpu", new Quantity("100m")))
+            .withLimits(Collections.singletonMap("memory", new Quantity("256Mi")))
+            .endResources()
+            .endContainer()
+            .withNodeName("node-1")
+            .endSpec()
+            .withNewStatus()
+            .withPhase("Running")
+            .withPodIP("10.0.0.12")
+            .addNewCondition().withType("Ready").withStatus("True").endCondition()
+            .endStatus()
+            .build();
+      case "ConfigMap":
+        return new ConfigMapBuilder()
+            .withNewMetadata()
+            .withName("benchmark-config")
+            .withNamespace("default")
+            .withResourceVersion("123456")
+            .withLabels(entries("label", 3))
+            .endMetadata()
+            .withData(entries("key", 20))
+            .build();
+      case "GenericKubernetesResource":
+        return new GenericKubernetesResourceBuilder()
+            .withApiVersion("benchmark.example.com/v1")
+            .withKind("Benchmark")
+            .withNewMetadata()
+            .withName("benchmark-generic")
+            .withNamespace("default")
+            .withResourceVersion("123456")
+            .withLabels(entries("label", 5))
+            .endMetadata()
+            .addToAdditionalProperties("spec", Collections.singletonMap("values", entries("value", 10)))
+            .build();
+      default:
+        throw new IllegalArgumentException(payload);
+    }
+  }
+
+  private static Map<String, String> entries(String prefix, int count) {
+    Map<String, String> result = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      result.put(prefix + "-" + i, prefix + "-value-" + i);
+    }
+    return result;
+  }
+}
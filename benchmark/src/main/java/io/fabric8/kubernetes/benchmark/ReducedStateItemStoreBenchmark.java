@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.benchmark;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ReducedStateItemStore;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares storing and restoring with the {@link ReducedStateItemStore} against converting the whole resource
+ * to and from a Map, which is how the store previously worked.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+public class ReducedStateItemStoreBenchmark {
+
+  private KubernetesSerialization serialization;
+  private ReducedStateItemStore<Pod> store;
+  private Pod pod;
+  private String key;
+
+  @Setup
+  public void setup() {
+    serialization = new KubernetesSerialization();
+    store = new ReducedStateItemStore<>(ReducedStateItemStore.NAME_KEY_STATE, Pod.class, serialization,
+        "metadata.labels", "spec.nodeName");
+    pod = new PodBuilder()
+        .withNewMetadata()
+        .withName("benchmark-pod")
+        .withNamespace("default")
+        .withResourceVersion("123456")
+        .addToLabels("app", "benchmark")
+        .addToAnnotations("description", "a pod with a typical amount of state")
+        .endMetadata()
+        .withNewSpec()
+        .addNewContainer()
+        .withName("app")
+        .withImage("quay.io/example/app:1.0")
+        .addToArgs("--port=8080", "--verbose")
+        .addNewEnv().withName("MODE").withValue("benchmark").endEnv()
+        .addNewPort().withContainerPort(8080).withProtocol("TCP").endPort()
+        .endContainer()
+        .withNodeName("node-1")
+        .endSpec()
+        .withNewStatus()
+        .withPhase("Running")
+        .withPodIP("10.0.0.12")
+        .addNewCondition().withType("Ready").withStatus("True").endCondition()
+        .endStatus()
+        .build();
+    key = Cache.metaNamespaceKeyFunc(pod);
+    store.put(key, pod);
+  }
+
+  @Benchmark
+  public Pod put() {
+    return store.put(key, pod);
+  }
+
+  @Benchmark
+  public Pod get() {
+    return store.get(key);
+  }
+
+  @Benchmark
+  public Pod convertPut() {
+    Map<String, Object> raw = serialization.convertValue(pod, Map.class);
+    Object[] values = { GenericKubernetesResource.get(raw, "metadata", "resourceVersion"),
+        GenericKubernetesResource.get(raw, "metadata", "labels"), GenericKubernetesResource.get(raw, "spec", "nodeName") };
+    return values[0] == null ? null : pod;
+  }
+
+  @Benchmark
+  public Pod convertGet() {
+    Map<String, Object> metadata = new LinkedHashMap<>();
+    metadata.put("resourceVersion", "123456");
+    metadata.put("labels", Collections.singletonMap("app", "benchmark"));
+    metadata.put("namespace", "default");
+    metadata.put("name", "benchmark-pod");
+    Map<String, Object> raw = new HashMap<>();
+    raw.put("metadata", metadata);
+    raw.put("spec", Collections.singletonMap("nodeName", "node-1"));
+    return serialization.convertValue(raw, Pod.class);
+  }
+
+}
@@ -83,6 +83,8 @@ public class JettyHttpClientBuilder
       sharedWebSocketClient.setConnectTimeout(connectTimeout.toMillis());
     }
     sharedHttpClient.setFollowRedirects(followRedirects);
+    // responses are decoded by the StandardHttpClient, not by jetty
+    sharedHttpClient.getContentDecoderFactories().clear();
     // long running http requests count against this and eventually exhaust
     // the work that can be done
     sharedHttpClient.setMaxConnectionsPerDestination(MAX_CONNECTIONS);
@@ -16,8 +16,10 @@
 package io.fabric8.kubernetes.client.server.mock;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
+import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
 import io.fabric8.kubernetes.client.server.mock.crud.KubernetesCrudDispatcherException;
 import io.fabric8.kubernetes.client.server.mock.crud.KubernetesCrudDispatcherHandler;
 import io.fabric8.kubernetes.client.server.mock.crud.KubernetesCrudPersistence;
@@ -290,14 +292,40 @@ public class KubernetesCrudDispatcher extends CrudDispatcher implements Kubernet
     if (resourceName != null) {
       query = query.add(new Attribute("name", resourceName));
     }
+    boolean sendInitialEvents = isSendInitialEvents(path);
     WatchEventsListener watchEventListener = new WatchEventsListener(context, query, watchEventListeners, LOGGER,
-        watch -> withLock(lock.readLock(), () -> map.entrySet().stream()
-            .filter(entry -> watch.attributeMatches(entry.getKey()))
-            .forEach(entry -> watch.sendWebSocketResponse(entry.getValue(), Action.ADDED))));
+        watch -> withLock(lock.readLock(), () -> {
+          map.entrySet().stream()
+              .filter(entry -> watch.attributeMatches(entry.getKey()))
+              .forEach(entry -> watch.sendWebSocketResponse(entry.getValue(), Action.ADDED));
+          if (sendInitialEvents) {
+            // emulate the watch list protocol by marking the end of the initial events
+            watch.sendWebSocketResponse(initialEventsEndBookmark(), Action.BOOKMARK);
+          }
+        }));
     watchEventListeners.add(watchEventListener);
     return mockResponse.withWebSocketUpgrade(watchEventListener);
   }
 
+  private String initialEventsEndBookmark() {
+    GenericKubernetesResource bookmark = new GenericKubernetesResource();
+    bookmark.setMetadata(new ObjectMetaBuilder()
+        .withResourceVersion(String.valueOf(resourceVersion.get()))
+        .addToAnnotations(AbstractWatchManager.INITIAL_EVENTS_END_ANNOTATION, "true")
+        .build());
+    return Serialization.asJson(bookmark);
+  }
+
+  private static boolean isSendInitialEvents(String path) {
+    try {
+      String queryString = new URI(path).getQuery();
+      return queryString != null && queryString.contains("sendInitialEvents=true");
+    } catch (URISyntaxException e) {
+      LOGGER.debug("Incorrect URI string: [{}]", path);
+      return false;
+    }
+  }
+
   private boolean detectWatchMode(String path) {
     String queryString = null;
     try {
@@ -118,6 +118,7 @@ public class Config {
   public static final String KUBERNETES_SERVICE_ACCOUNT_TOKEN_PATH = "/var/run/secrets/kubernetes.io/serviceaccount/token";
   public static final String KUBERNETES_SERVICE_ACCOUNT_CA_CRT_PATH = "/var/run/secrets/kubernetes.io/serviceaccount/ca.crt";
   public static final String KUBERNETES_HTTP2_DISABLE = "http2.disable";
+  public static final String KUBERNETES_DISABLE_COMPRESSION = "kubernetes.disable.compression";
   public static final String KUBERNETES_HTTP_PROXY = "http.proxy";
   public static final String KUBERNETES_HTTPS_PROXY = "https.proxy";
   public static final String KUBERNETES_ALL_PROXY = "all.proxy";
@@ -224,6 +225,8 @@ public class Config {
 
   private Boolean onlyHttpWatches;
 
+  private Boolean disableCompression;
+
   /**
    * custom headers
    */
@@ -322,7 +325,7 @@ public class Config {
         null, null, null,
         null, null, null,
         null, null, null, null,
-        null, autoConfigure, true);
+        null, null, autoConfigure, true);
   }
 
   @JsonCreator
@@ -374,6 +377,7 @@ public class Config {
       @JsonProperty("requestRetryBackoffInterval") Integer requestRetryBackoffInterval,
       @JsonProperty("uploadRequestTimeout") Integer uploadRequestTimeout,
       @JsonProperty("onlyHttpWatches") Boolean onlyHttpWatches,
+      @JsonProperty("disableCompression") Boolean disableCompression,
       @JsonProperty("currentContext") NamedContext currentContext,
       @JsonProperty("contexts") List<NamedContext> contexts,
       @JsonProperty("autoConfigure") Boolean autoConfigure) {
@@ -384,7 +388,7 @@ public class Config {
         httpProxy, httpsProxy, noProxy, userAgent, tlsVersions, websocketPingInterval, proxyUsername, proxyPassword,
         trustStoreFile, trustStorePassphrase, keyStoreFile, keyStorePassphrase, impersonateUsername, impersonateGroups,
         impersonateExtras, oauthTokenProvider, customHeaders, requestRetryBackoffLimit, requestRetryBackoffInterval,
-        uploadRequestTimeout, onlyHttpWatches, currentContext, contexts, autoConfigure, true);
+        uploadRequestTimeout, onlyHttpWatches, disableCompression, currentContext, contexts, autoConfigure, true);
   }
 
   /*
@@ -402,8 +406,8 @@ public class Config {
       String proxyPassword, String trustStoreFile, String trustStorePassphrase, String keyStoreFile, String keyStorePassphrase,
       String impersonateUsername, String[] impersonateGroups, Map<String, List<String>> impersonateExtras,
       OAuthTokenProvider oauthTokenProvider, Map<String, String> customHeaders, Integer requestRetryBackoffLimit,
-      Integer requestRetryBackoffInterval, Integer uploadRequestTimeout, Boolean onlyHttpWatches, NamedContext currentContext,
-      List<NamedContext> contexts, Boolean autoConfigure, Boolean shouldSetDefaultValues) {
+      Integer requestRetryBackoffInterval, Integer uploadRequestTimeout, Boolean onlyHttpWatches, Boolean disableCompression,
+      NamedContext currentContext, List<NamedContext> contexts, Boolean autoConfigure, Boolean shouldSetDefaultValues) {
     if (Boolean.TRUE.equals(shouldSetDefaultValues)) {
       this.masterUrl = DEFAULT_MASTER_URL;
       this.apiVersion = "v1";
@@ -411,6 +415,7 @@ public class Config {
       this.trustCerts = false;
       this.disableHostnameVerification = false;
       this.onlyHttpWatches = false;
+      this.disableCompression = false;
       this.http2Disable = false;
       this.clientKeyAlgo = "RSA";
       this.clientKeyPassphrase = DEFAULT_CLIENT_KEY_PASSPHRASE;
@@ -527,6 +532,9 @@ public class Config {
     if (http2Disable != null) {
       this.http2Disable = http2Disable;
     }
+    if (disableCompression != null) {
+      this.disableCompression = disableCompression;
+    }
     if (Utils.isNotNullOrEmpty(httpProxy)) {
       this.httpProxy = httpProxy;
     }
@@ -682,6 +690,8 @@ public class Config {
     }
 
     config.setHttp2Disable(Utils.getSystemPropertyOrEnvVar(KUBERNETES_HTTP2_DISABLE, config.isHttp2Disable()));
+    config.setDisableCompression(
+        Utils.getSystemPropertyOrEnvVar(KUBERNETES_DISABLE_COMPRESSION, config.isDisableCompression()));
 
     // Only set http(s) proxy fields if they're not set. This is done in order to align behavior of
     // KubernetesClient with kubectl / client-go . Please see https://github.com/fabric8io/kubernetes-client/issues/6150
@@ -903,7 +913,7 @@ public class Config {
     public String token;
     public String clientCertificateData;
     public String clientKeyData;
-    // TODO expirationTimestamp
+    public String expirationTimestamp;
   }
 
   private static boolean tryNamespaceFromPath(Config config) {
@@ -1268,6 +1278,22 @@ public class Config {
     this.http2Disable = http2Disable;
   }
 
+  /**
+   * @return true if responses should not be requested gzip compressed
+   */
+  @JsonProperty("disableCompression")
+  public boolean isDisableCompression() {
+    return Optional.ofNullable(disableCompression).orElse(false);
+  }
+
+  Boolean getDisableCompression() {
+    return disableCompression;
+  }
+
+  public void setDisableCompression(Boolean disableCompression) {
+    this.disableCompression = disableCompression;
+  }
+
   public void setHttpProxy(String httpProxy) {
     this.httpProxy = httpProxy;
   }
@@ -56,6 +56,7 @@ public class ConfigBuilder extends ConfigFluent<ConfigBuilder> implements Visita
         fluent.getImpersonateUsername(), fluent.getImpersonateGroups(), fluent.getImpersonateExtras(),
         fluent.getOauthTokenProvider(), fluent.getCustomHeaders(), fluent.getRequestRetryBackoffLimit(),
         fluent.getRequestRetryBackoffInterval(), fluent.getUploadRequestTimeout(), fluent.getOnlyHttpWatches(),
+        fluent.getDisableCompression(),
         fluent.getCurrentContext(), fluent.getContexts(),
         Optional.ofNullable(fluent.getAutoConfigure()).orElse(!disableAutoConfig()), true);
     buildable.setAuthProvider(fluent.getAuthProvider());
@@ -74,6 +74,7 @@ public class ConfigFluent<A extends ConfigFluent<A>> extends SundrioConfigFluent
       this.withRequestRetryBackoffInterval(instance.getRequestRetryBackoffInterval());
       this.withUploadRequestTimeout(instance.getUploadRequestTimeout());
       this.withOnlyHttpWatches(instance.isOnlyHttpWatches());
+      this.withDisableCompression(instance.isDisableCompression());
       this.withCurrentContext(instance.getCurrentContext());
       this.withContexts(instance.getContexts());
       this.withAutoConfigure(instance.getAutoConfigure());
@@ -143,6 +144,10 @@ public class ConfigFluent<A extends ConfigFluent<A>> extends SundrioConfigFluent
     return this.withOnlyHttpWatches(Boolean.valueOf(onlyHttpWatches));
   }
 
+  public A withDisableCompression(boolean disableCompression) {
+    return this.withDisableCompression(Boolean.valueOf(disableCompression));
+  }
+
   public A withAutoConfigure(boolean autoConfigure) {
     return this.withAutoConfigure(Boolean.valueOf(autoConfigure));
   }
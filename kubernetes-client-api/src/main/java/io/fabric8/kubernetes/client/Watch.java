@@ -24,4 +24,15 @@ public interface Watch extends Closeable {
    */
   void close();
 
+  /**
+   * The number of events received from the server that have not yet been handled by the {@link Watcher}.
+   * <p>
+   * Compare with {@link Watcher#eventQueueCapacity()} to tell if the Watcher is keeping up.
+   *
+   * @return the number of pending events, or 0 if the watch does not track them
+   */
+  default int getEventQueueDepth() {
+    return 0;
+  }
+
 }
@@ -30,6 +30,33 @@ public interface Watcher<T> {
     return false;
   }
 
+  /**
+   * The maximum number of events that may be waiting to be delivered to this Watcher.
+   * <p>
+   * When the limit is reached no further events are read from the server until the Watcher
+   * catches up, so a slow Watcher applies backpressure to the connection instead of buffering
+   * events without bound. The limit is approximate as a single read may contain several events.
+   *
+   * @return the capacity of the event queue, or 0 for an unbounded queue
+   */
+  default int eventQueueCapacity() {
+    return 0;
+  }
+
+  /**
+   * If events should be decoded concurrently on the client's executor rather than one at a time
+   * as they are read.
+   * <p>
+   * Events are still delivered in the order they were received. This raises the throughput of a
+   * single watch over large resources at the cost of copying each message.
+   * The number of events being decoded at once is bounded by the number of processors.
+   *
+   * @return true to decode in parallel
+   */
+  default boolean parallelDecoding() {
+    return false;
+  }
+
   /**
    * Handle the given event.
    * <p>
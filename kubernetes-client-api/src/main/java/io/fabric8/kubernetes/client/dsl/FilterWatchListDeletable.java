@@ -15,6 +15,9 @@
  */
 package io.fabric8.kubernetes.client.dsl;
 
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+
 import java.util.stream.Stream;
 
 public interface FilterWatchListDeletable<T, L, R>
@@ -37,4 +40,16 @@ public interface FilterWatchListDeletable<T, L, R>
    */
   Stream<R> resources();
 
+  /**
+   * Operate only on the metadata of the matching resources. The server omits everything else,
+   * such as the spec and status, which reduces the cost of lists, watches and informers that only
+   * need names, labels, owner references or resourceVersions.
+   * <p>
+   * If the server does not support returning only the metadata, the full resources are returned and
+   * the other fields are ignored.
+   *
+   * @return the metadata only operation
+   */
+  FilterWatchListDeletable<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> metadataOnly();
+
 }
@@ -19,11 +19,13 @@ import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -121,6 +123,50 @@ public interface Informable<T> {
    */
   SharedIndexInformer<T> runnableInformer(long resync);
 
+  /**
+   * Similar to {@link #runnableInformer(long)}, but with a separate list and watch for each of the given namespaces.
+   * All of them feed a single store and set of handlers.
+   * <p>
+   * Use this rather than an informer per namespace when you are only allowed to list a subset of the namespaces.
+   * The initial lists of the namespaces are bounded in concurrency.
+   *
+   * @param namespaces the namespaces to inform on
+   * @param resync the resync period or 0 for no resync
+   * @return a non-running {@link SharedIndexInformer}
+   * @throws UnsupportedOperationException if the implementation does not support multiple namespaces
+   */
+  default SharedIndexInformer<T> runnableInformer(Collection<String> namespaces, long resync) {
+    throw new UnsupportedOperationException("Informing on multiple namespaces is not supported");
+  }
+
+  /**
+   * Get a running informer for this context that is shared with all other callers on the same client
+   * with the same resource, namespace, name, selectors and indexer names.
+   * <p>
+   * This call will be blocking for the initial list and watch if the informer is not yet running.
+   * <p>
+   * The returned view should be stopped when no longer needed, which removes the handlers added through it.
+   * The watch is only stopped when every view has been stopped. As the informer is already running, it cannot
+   * be configured through the view and handlers will not resync.
+   *
+   * @return a running view of the shared {@link SharedIndexInformer}
+   */
+  default SharedIndexInformer<T> sharedInformer() {
+    return sharedInformer(null, null);
+  }
+
+  /**
+   * Similar to {@link #sharedInformer()}, but the informer is configured, for example with an
+   * {@link io.fabric8.kubernetes.client.informers.cache.ItemStore}, before it is first started.
+   * <p>
+   * Only callers using the same configuration key share an informer.
+   *
+   * @param configurationKey identifies the configuration, may be null for no configuration
+   * @param configuration applied to a new informer before it is started, may be null
+   * @return a running view of the shared {@link SharedIndexInformer}
+   */
+  SharedIndexInformer<T> sharedInformer(String configurationKey, Consumer<SharedIndexInformer<T>> configuration);
+
   /**
    * Return a {@link Future} when the list at this context satisfies the given {@link Predicate}.
    * The predicate will be tested against the state of the underlying informer store on every event.
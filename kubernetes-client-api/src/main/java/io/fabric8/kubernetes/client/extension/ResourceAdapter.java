@@ -39,6 +39,7 @@ import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -245,6 +246,16 @@ public class ResourceAdapter<T> implements Resource<T> {
     return resource.runnableInformer(resync);
   }
 
+  @Override
+  public SharedIndexInformer<T> runnableInformer(Collection<String> namespaces, long resync) {
+    return resource.runnableInformer(namespaces, resync);
+  }
+
+  @Override
+  public SharedIndexInformer<T> sharedInformer(String configurationKey, Consumer<SharedIndexInformer<T>> configuration) {
+    return resource.sharedInformer(configurationKey, configuration);
+  }
+
   @Override
   public CompletableFuture<List<T>> informOnCondition(Predicate<List<T>> condition) {
     return resource.informOnCondition(condition);
@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Inflates a gzip encoded response body as it arrives, independently of the http client implementation.
+ * <br>
+ * The decoding is only active if the response was gzip encoded, otherwise the bytes are passed through.
+ * Like {@link java.util.zip.GZIPInputStream} concatenated members are supported and anything after the last
+ * member that is not a gzip header is ignored.
+ */
+final class GzipDecoder implements AsyncBody.Consumer<List<ByteBuffer>> {
+
+  static final String GZIP = "gzip";
+  static final String IDENTITY = "identity";
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final int HEADER_SIZE = 10;
+  private static final int TRAILER_SIZE = 8;
+  private static final int INCOMPLETE = -1;
+
+  private static final int FHCRC = 2;
+  private static final int FEXTRA = 4;
+  private static final int FNAME = 8;
+  private static final int FCOMMENT = 16;
+
+  private enum State {
+    HEADER,
+    BODY,
+    TRAILER,
+    TRAILING
+  }
+
+  private final AsyncBody.Consumer<List<ByteBuffer>> delegate;
+  private final CRC32 crc = new CRC32();
+  private Inflater inflater;
+  private State state = State.HEADER;
+  private boolean firstMember = true;
+  // header or trailer bytes that did not fit in the previous buffer
+  private ByteBuffer pending;
+
+  GzipDecoder(AsyncBody.Consumer<List<ByteBuffer>> delegate) {
+    this.delegate = delegate;
+  }
+
+  static boolean isAccepted(HttpRequest request) {
+    String accept = request.header(StandardHttpHeaders.ACCEPT_ENCODING);
+    return accept != null && accept.toLowerCase(Locale.ROOT).contains(GZIP);
+  }
+
+  /**
+   * Must be called with the response before the body is consumed
+   */
+  void start(HttpResponse<AsyncBody> response) {
+    String encoding = response.header(StandardHttpHeaders.CONTENT_ENCODING);
+    if (encoding == null || !GZIP.equalsIgnoreCase(encoding.trim())) {
+      return;
+    }
+    final Inflater active = new Inflater(true);
+    inflater = active;
+    response.body().done().whenComplete((v, t) -> active.end());
+  }
+
+  @Override
+  public void consume(List<ByteBuffer> value, AsyncBody asyncBody) throws Exception {
+    if (inflater == null) {
+      delegate.consume(value, asyncBody);
+      return;
+    }
+    List<ByteBuffer> decoded = new ArrayList<>();
+    for (ByteBuffer buffer : value) {
+      decode(buffer, decoded);
+    }
+    if (decoded.isEmpty()) {
+      // nothing for the delegate yet, so it won't ask for more
+      asyncBody.consume();
+    } else {
+      delegate.consume(decoded, asyncBody);
+    }
+  }
+
+  @Override
+  public <U> U unwrap(Class<U> target) {
+    U result = AsyncBody.Consumer.super.unwrap(target);
+    return result != null ? result : delegate.unwrap(target);
+  }
+
+  private void decode(ByteBuffer in, List<ByteBuffer> out) throws ZipException {
+    if (pending != null) {
+      ByteBuffer merged = ByteBuffer.allocate(pending.remaining() + in.remaining());
+      merged.put(pending).put(in).flip();
+      in = merged;
+      pending = null;
+    }
+    while (in.hasRemaining()) {
+      switch (state) {
+        case HEADER:
+          int length = headerLength(in);
+          if (length == INCOMPLETE) {
+            pending = copy(in);
+            return;
+          }
+          if (length == 0) {
+            // not another member
+            state = State.TRAILING;
+            break;
+          }
+          in.position(in.position() + length);
+          inflater.reset();
+          crc.reset();
+          state = State.BODY;
+          break;
+        case BODY:
+          inflate(in, out);
+          if (!inflater.finished()) {
+            return;
+          }
+          state = State.TRAILER;
+          break;
+        case TRAILER:
+          if (in.remaining() < TRAILER_SIZE) {
+            pending = copy(in);
+            return;
+          }
+          ByteBuffer trailer = in.slice().order(ByteOrder.LITTLE_ENDIAN);
+          if (trailer.getInt(0) != (int) crc.getValue() || trailer.getInt(4) != (int) inflater.getBytesWritten()) {
+            throw new ZipException("Corrupt GZIP trailer");
+          }
+          in.position(in.position() + TRAILER_SIZE);
+          firstMember = false;
+          state = State.HEADER;
+          break;
+        case TRAILING:
+        default:
+          in.position(in.limit());
+          break;
+      }
+    }
+  }
+
+  private void inflate(ByteBuffer in, List<ByteBuffer> out) throws ZipException {
+    inflater.setInput(in);
+    try {
+      while (!inflater.finished() && !inflater.needsInput()) {
+        ByteBuffer chunk = ByteBuffer.allocate(BUFFER_SIZE);
+        if (inflater.inflate(chunk) == 0 && inflater.needsDictionary()) {
+          throw new ZipException("Unsupported GZIP dictionary");
+        }
+        chunk.flip();
+        if (chunk.hasRemaining()) {
+          crc.update(chunk.duplicate());
+          out.add(chunk);
+        }
+      }
+    } catch (DataFormatException e) {
+      ZipException zipException = new ZipException(e.getMessage());
+      zipException.initCause(e);
+      throw zipException;
+    }
+  }
+
+  /**
+   * @return the length of the header at the buffer position, {@link #INCOMPLETE} if more bytes are needed,
+   *         or 0 if there is no header after the first member
+   */
+  private int headerLength(ByteBuffer in) throws ZipException {
+    final int start = in.position();
+    final int limit = in.limit();
+    if (limit - start < HEADER_SIZE) {
+      return INCOMPLETE;
+    }
+    if ((in.get(start) & 0xff) != 0x1f || (in.get(start + 1) & 0xff) != 0x8b || in.get(start + 2) != 8) {
+      if (firstMember) {
+        throw new ZipException("Not in GZIP format");
+      }
+      return 0;
+    }
+    final int flags = in.get(start + 3) & 0xff;
+    int index = start + HEADER_SIZE;
+    if ((flags & FEXTRA) != 0) {
+      if (limit - index < 2) {
+        return INCOMPLETE;
+      }
+      index += 2 + ((in.get(index) & 0xff) | (in.get(index + 1) & 0xff) << 8);
+    }
+    if ((flags & FNAME) != 0) {
+      index = skipZeroTerminated(in, index);
+    }
+    if (index != INCOMPLETE && (flags & FCOMMENT) != 0) {
+      index = skipZeroTerminated(in, index);
+    }
+    if (index != INCOMPLETE && (flags & FHCRC) != 0) {
+      index += 2;
+    }
+    if (index == INCOMPLETE || index > limit) {
+      return INCOMPLETE;
+    }
+    return index - start;
+  }
+
+  private static int skipZeroTerminated(ByteBuffer in, int index) {
+    while (index < in.limit()) {
+      if (in.get(index++) == 0) {
+        return index;
+      }
+    }
+    return INCOMPLETE;
+  }
+
+  private static ByteBuffer copy(ByteBuffer in) {
+    ByteBuffer copy = ByteBuffer.allocate(in.remaining());
+    copy.put(in).flip();
+    return copy;
+  }
+
+}
@@ -121,6 +121,18 @@ public interface HttpClient extends AutoCloseable {
 
     Builder preferHttp11();
 
+    /**
+     * Do not ask for compressed responses. By default gzip responses are requested and decoded
+     * as they are consumed, regardless of the underlying implementation.
+     * <p>
+     * Implementations that do not support compression may ignore this.
+     *
+     * @return this Builder instance.
+     */
+    default Builder disableCompression() {
+      return this;
+    }
+
     Builder proxyType(ProxyType type);
   }
 
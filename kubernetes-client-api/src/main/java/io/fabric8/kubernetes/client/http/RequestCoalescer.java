@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical GET requests share a single in-flight request and response.
+ * <p>
+ * Requests are only shared when they are sent by the same client - which determines the credentials
+ * used - to the same uri with the same headers, and the response body is fully read into a byte[] or String.
+ * Each caller gets its own response instance - a byte[] body is copied for each caller, a String body is
+ * immutable and so is shared.
+ * <p>
+ * Enable by tagging the client builder, for example
+ * {@code new KubernetesClientBuilder().withHttpClientBuilderConsumer(b -> b.tag(new RequestCoalescer()))}.
+ */
+public final class RequestCoalescer {
+
+  private final Map<Object, CompletableFuture<? extends HttpResponse<?>>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder coalesced = new LongAdder();
+
+  static boolean isCoalescable(HttpRequest request, Class<?> type) {
+    return "GET".equalsIgnoreCase(request.method()) && (type == byte[].class || type == String.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  <V> CompletableFuture<HttpResponse<V>> coalesce(HttpClient client, HttpRequest request, Class<V> type,
+      Supplier<CompletableFuture<HttpResponse<V>>> send) {
+    Object key = Arrays.asList(client, request.uri(), request.headers(), type);
+    CompletableFuture<HttpResponse<V>> created = new CompletableFuture<>();
+    CompletableFuture<HttpResponse<V>> shared = (CompletableFuture<HttpResponse<V>>) inFlight.putIfAbsent(key, created);
+    if (shared == null) {
+      shared = created;
+      try {
+        send.get().whenComplete((r, t) -> {
+          inFlight.remove(key, created);
+          complete(created, r, t);
+        });
+      } catch (RuntimeException e) {
+        inFlight.remove(key, created);
+        created.completeExceptionally(e);
+      }
+    } else {
+      coalesced.increment();
+    }
+    // each caller gets its own future, so that cancelling one does not affect the others
+    CompletableFuture<HttpResponse<V>> result = new CompletableFuture<>();
+    shared.whenComplete((r, t) -> complete(result, r == null ? null : copyOf(r, type), t));
+    return result;
+  }
+
+  private static <V> HttpResponse<V> copyOf(HttpResponse<V> response, Class<V> type) {
+    V body = response.body();
+    if (body instanceof byte[]) {
+      // arrays are mutable, so callers must not see each other's changes
+      body = type.cast(((byte[]) body).clone());
+    }
+    return new HttpResponseAdapter<>(response, body);
+  }
+
+  private static <V> void complete(CompletableFuture<V> future, V value, Throwable t) {
+    if (t != null) {
+      future.completeExceptionally(t);
+    } else {
+      future.complete(value);
+    }
+  }
+
+  /**
+   * @return the number of requests that were not sent because they joined an identical in-flight request
+   */
+  public long getCoalesced() {
+    return coalesced.sum();
+  }
+
+}
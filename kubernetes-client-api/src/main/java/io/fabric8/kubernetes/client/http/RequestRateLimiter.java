@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A client-side token bucket that limits the rate at which requests are sent.
+ * <p>
+ * Requests waiting for a permit are queued in {@link Lane}s, and a free permit goes to the highest priority lane
+ * with a waiting request - so a burst of reads can't hold back writes such as lease renewals. So that lower lanes
+ * are not starved by a sustained load on a higher one, every {@value #FAIR_SHARE_INTERVAL}th permit instead goes to
+ * the request that has waited longest in any lane.
+ * <p>
+ * Enable by tagging the client builder, for example
+ * {@code new KubernetesClientBuilder().withHttpClientBuilderConsumer(b -> b.tag(new RequestRateLimiter(50, 100)))}.
+ * Every attempt, including retries and requests resent by an {@link Interceptor} after a failure, needs a permit.
+ */
+public final class RequestRateLimiter {
+
+  static final int FAIR_SHARE_INTERVAL = 4;
+
+  /**
+   * The lanes in priority order
+   */
+  public enum Lane {
+    /**
+     * Writes, and all requests for coordination.k8s.io leases - leader election must not wait behind reads
+     */
+    WRITE,
+    READ,
+    WATCH;
+
+    public static Lane of(HttpRequest request) {
+      String path = request.uri().getRawPath();
+      if (path != null && path.contains("/apis/coordination.k8s.io/")) {
+        return WRITE;
+      }
+      String query = request.uri().getRawQuery();
+      if (query != null && (query.startsWith("watch=true") || query.contains("&watch=true"))) {
+        return WATCH;
+      }
+      String method = request.method();
+      if ("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method)) {
+        return READ;
+      }
+      return WRITE;
+    }
+  }
+
+  private static final class LaneStatistics {
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+  }
+
+  private static final class Waiter {
+    private final CompletableFuture<Void> permit = new CompletableFuture<>();
+    private final long queuedAt = System.nanoTime();
+  }
+
+  private final double permitsPerNano;
+  private final double burst;
+  private double permits;
+  private long lastRefill;
+  private boolean drainScheduled;
+  private long granted;
+  private final Map<Lane, Queue<Waiter>> waiting = new EnumMap<>(Lane.class);
+  private final Map<Lane, LaneStatistics> statistics = new EnumMap<>(Lane.class);
+
+  /**
+   * @param permitsPerSecond the sustained rate of requests
+   * @param burst the number of requests that may be sent at once after being idle
+   */
+  public RequestRateLimiter(double permitsPerSecond, int burst) {
+    if (permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException("permitsPerSecond must be positive and burst must be at least 1");
+    }
+    this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+    this.burst = burst;
+    this.permits = burst;
+    this.lastRefill = System.nanoTime();
+    for (Lane lane : Lane.values()) {
+      waiting.put(lane, new ArrayDeque<>());
+      statistics.put(lane, new LaneStatistics());
+    }
+  }
+
+  /**
+   * Acquire a permit for the given lane.
+   *
+   * @return a future that completes once the request may be sent. Cancel it to give up the place in the queue.
+   */
+  public synchronized CompletableFuture<Void> acquire(Lane lane) {
+    refill();
+    if (permits >= 1 && waiting.values().stream().allMatch(Queue::isEmpty)) {
+      permits -= 1;
+      statistics.get(lane).acquired.increment();
+      return CompletableFuture.completedFuture(null);
+    }
+    Waiter waiter = new Waiter();
+    Queue<Waiter> queue = waiting.get(lane);
+    queue.add(waiter);
+    // a cancelled waiter must not count as queued or keep later requests off the fast path
+    waiter.permit.whenComplete((v, t) -> {
+      if (t != null) {
+        remove(queue, waiter);
+      }
+    });
+    scheduleDrain();
+    return waiter.permit;
+  }
+
+  private synchronized void remove(Queue<Waiter> queue, Waiter waiter) {
+    queue.remove(waiter);
+  }
+
+  private void drain() {
+    List<CompletableFuture<Void>> granted = new ArrayList<>();
+    synchronized (this) {
+      drainScheduled = false;
+      refill();
+      long now = System.nanoTime();
+      Lane lane;
+      while (permits >= 1 && (lane = nextLane()) != null) {
+        Waiter waiter = waiting.get(lane).poll();
+        if (waiter.permit.isDone()) {
+          // cancelled or timed out while waiting
+          continue;
+        }
+        permits -= 1;
+        this.granted++;
+        LaneStatistics laneStatistics = statistics.get(lane);
+        laneStatistics.acquired.increment();
+        laneStatistics.waitNanos.add(now - waiter.queuedAt);
+        granted.add(waiter.permit);
+      }
+      if (waiting.values().stream().anyMatch(queue -> !queue.isEmpty())) {
+        scheduleDrain();
+      }
+    }
+    // complete outside of the lock as dependent actions will run in this thread
+    granted.forEach(permit -> permit.complete(null));
+  }
+
+  /**
+   * @return the lane to grant the next permit to, or null if nothing is waiting
+   */
+  private Lane nextLane() {
+    boolean fairShare = (granted + 1) % FAIR_SHARE_INTERVAL == 0;
+    Lane next = null;
+    Waiter oldest = null;
+    for (Lane lane : Lane.values()) {
+      Waiter head = waiting.get(lane).peek();
+      if (head == null) {
+        continue;
+      }
+      if (!fairShare) {
+        return lane;
+      }
+      if (oldest == null || head.queuedAt - oldest.queuedAt < 0) {
+        next = lane;
+        oldest = head;
+      }
+    }
+    return next;
+  }
+
+  private void scheduleDrain() {
+    if (drainScheduled) {
+      return;
+    }
+    drainScheduled = true;
+    long delayNanos = permits >= 1 ? 0 : (long) Math.ceil((1 - permits) / permitsPerNano);
+    Utils.schedule(Runnable::run, this::drain, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private void refill() {
+    long now = System.nanoTime();
+    permits = Math.min(burst, permits + (now - lastRefill) * permitsPerNano);
+    lastRefill = now;
+  }
+
+  /**
+   * @return the number of requests currently waiting for a permit in the lane
+   */
+  public synchronized int getQueued(Lane lane) {
+    return waiting.get(lane).size();
+  }
+
+  /**
+   * @return the number of permits granted in the lane
+   */
+  public long getAcquired(Lane lane) {
+    return statistics.get(lane).acquired.sum();
+  }
+
+  /**
+   * @return the total time requests in the lane spent waiting for a permit
+   */
+  public long getWaitTime(Lane lane, TimeUnit unit) {
+    return unit.convert(statistics.get(lane).waitNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+}
@@ -19,6 +19,9 @@ import io.fabric8.kubernetes.client.RequestConfig;
 import io.fabric8.kubernetes.client.http.AsyncBody.Consumer;
 import io.fabric8.kubernetes.client.http.Interceptor.RequestTags;
 import io.fabric8.kubernetes.client.http.WebSocket.Listener;
+import io.fabric8.kubernetes.client.jfr.ClientEvents;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import io.fabric8.kubernetes.client.metrics.RequestMetric;
 import io.fabric8.kubernetes.client.utils.AsyncUtils;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -38,6 +41,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -72,6 +77,14 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
 
   @Override
   public <V> CompletableFuture<HttpResponse<V>> sendAsync(HttpRequest request, Class<V> type) {
+    final RequestCoalescer coalescer = getTag(RequestCoalescer.class);
+    if (coalescer != null && RequestCoalescer.isCoalescable(request, type)) {
+      return coalescer.coalesce(this, request, type, () -> sendAsyncOnce(request, type));
+    }
+    return sendAsyncOnce(request, type);
+  }
+
+  private <V> CompletableFuture<HttpResponse<V>> sendAsyncOnce(HttpRequest request, Class<V> type) {
     CompletableFuture<HttpResponse<V>> upstream = HttpResponse.SupportedResponses.from(type).sendAsync(request, this);
     final CompletableFuture<HttpResponse<V>> result = new CompletableFuture<>();
     upstream.whenComplete(completeOrCancel(r -> {
@@ -85,11 +98,55 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
   @Override
   public CompletableFuture<HttpResponse<AsyncBody>> consumeBytes(HttpRequest request, Consumer<List<ByteBuffer>> consumer) {
     final StandardHttpRequest standardHttpRequest = (StandardHttpRequest) request;
-    return retryWithExponentialBackoff(
+    final ClientMetrics metrics = ClientMetrics.from(this);
+    final Object event = ClientEvents.beginHttpRequest();
+    if (metrics == ClientMetrics.NOOP && event == null) {
+      return retryWithExponentialBackoff(
+          standardHttpRequest,
+          () -> consumeBytesOnce(standardHttpRequest, consumer),
+          r -> r.body().cancel(),
+          r -> r);
+    }
+    final long start = System.nanoTime();
+    final AtomicInteger attempts = new AtomicInteger();
+    final AtomicLong bytes = new AtomicLong();
+    final Consumer<List<ByteBuffer>> countingConsumer = (buffers, asyncBody) -> {
+      for (ByteBuffer buffer : buffers) {
+        bytes.addAndGet(buffer.remaining());
+      }
+      consumer.consume(buffers, asyncBody);
+    };
+    CompletableFuture<HttpResponse<AsyncBody>> result = retryWithExponentialBackoff(
         standardHttpRequest,
-        () -> consumeBytesOnce(standardHttpRequest, consumer),
+        () -> {
+          attempts.incrementAndGet();
+          return consumeBytesOnce(standardHttpRequest, countingConsumer);
+        },
         r -> r.body().cancel(),
         r -> r);
+    result.whenComplete((r, t) -> {
+      if (t != null) {
+        recordRequest(metrics, event, standardHttpRequest, RequestMetric.NO_RESPONSE, start, bytes.get(),
+            attempts.get());
+      } else {
+        r.body().done().whenComplete(
+            (v, e) -> recordRequest(metrics, event, standardHttpRequest, r.code(), start, bytes.get(), attempts.get()));
+      }
+    });
+    return result;
+  }
+
+  private static void recordRequest(ClientMetrics metrics, Object event, HttpRequest request, int code, long start,
+      long bytes, int attempts) {
+    final int retries = Math.max(0, attempts - 1);
+    try {
+      ClientEvents.endHttpRequest(event, request, code, bytes, retries);
+      if (metrics != ClientMetrics.NOOP) {
+        metrics.requestCompleted(RequestMetric.of(request, code, System.nanoTime() - start, bytes, retries));
+      }
+    } catch (RuntimeException e) {
+      LOG.debug("Could not record the request metrics", e);
+    }
   }
 
   private CompletableFuture<HttpResponse<AsyncBody>> consumeBytesOnce(StandardHttpRequest standardHttpRequest,
@@ -99,6 +156,12 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
       interceptor.before(copy, standardHttpRequest, this);
       standardHttpRequest = copy.build();
     }
+    if (standardHttpRequest.header(StandardHttpHeaders.ACCEPT_ENCODING) == null) {
+      // set explicitly so that implementations with their own transparent decoding leave the body alone
+      copy.setHeader(StandardHttpHeaders.ACCEPT_ENCODING,
+          builder.isDisableCompression() ? GzipDecoder.IDENTITY : GzipDecoder.GZIP);
+      standardHttpRequest = copy.build();
+    }
     final StandardHttpRequest effectiveRequest = standardHttpRequest;
 
     for (Interceptor interceptor : builder.getInterceptors().values()) {
@@ -106,7 +169,7 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     }
     final Consumer<List<ByteBuffer>> effectiveConsumer = consumer;
 
-    CompletableFuture<HttpResponse<AsyncBody>> cf = consumeBytesDirect(effectiveRequest, effectiveConsumer);
+    CompletableFuture<HttpResponse<AsyncBody>> cf = consumeBytesDecoded(effectiveRequest, effectiveConsumer);
     cf.thenAccept(
         response -> builder.getInterceptors().values().forEach(i -> i.after(effectiveRequest, response, effectiveConsumer)));
 
@@ -118,7 +181,9 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
                 if (Boolean.TRUE.equals(b)) {
                   // before starting another request, make sure the old one is cancelled / closed
                   response.body().cancel();
-                  CompletableFuture<HttpResponse<AsyncBody>> result = consumeBytesDirect(copy.build(), effectiveConsumer);
+                  final StandardHttpRequest resend = copy.build();
+                  CompletableFuture<HttpResponse<AsyncBody>> result = limited(resend,
+                      () -> consumeBytesDecoded(resend, effectiveConsumer)).get();
                   result.thenAccept(
                       r -> builder.getInterceptors().values().forEach(i -> i.after(effectiveRequest, r, effectiveConsumer)));
                   return result;
@@ -132,6 +197,21 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     return cf;
   }
 
+  /**
+   * Inflate gzip encoded responses before they reach the consumer
+   */
+  private CompletableFuture<HttpResponse<AsyncBody>> consumeBytesDecoded(StandardHttpRequest request,
+      Consumer<List<ByteBuffer>> consumer) {
+    if (!GzipDecoder.isAccepted(request)) {
+      return consumeBytesDirect(request, consumer);
+    }
+    final GzipDecoder decoder = new GzipDecoder(consumer);
+    return consumeBytesDirect(request, decoder).thenApply(response -> {
+      decoder.start(response);
+      return response;
+    });
+  }
+
   private static <V> BiConsumer<? super V, ? super Throwable> completeOrCancel(java.util.function.Consumer<V> cancel,
       final CompletableFuture<V> result) {
     return (r, t) -> {
@@ -160,12 +240,30 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
     } else {
       timeout = null;
     }
-    return AsyncUtils.retryWithExponentialBackoff(action, onCancel, timeout, retryIntervalCalculator,
+    return AsyncUtils.retryWithExponentialBackoff(limited(request, action), onCancel, timeout, retryIntervalCalculator,
         (response, throwable, retryInterval) -> {
           return shouldRetry(request, responseExtractor, response, throwable, retryInterval);
         });
   }
 
+  /**
+   * Make the action wait for a permit from the {@link RequestRateLimiter}, if one is configured.
+   */
+  private <V> Supplier<CompletableFuture<V>> limited(StandardHttpRequest request, Supplier<CompletableFuture<V>> action) {
+    final RequestRateLimiter rateLimiter = getTag(RequestRateLimiter.class);
+    if (rateLimiter == null) {
+      return action;
+    }
+    final RequestRateLimiter.Lane lane = RequestRateLimiter.Lane.of(request);
+    return () -> {
+      CompletableFuture<Void> permit = rateLimiter.acquire(lane);
+      CompletableFuture<V> result = permit.thenCompose(v -> action.get());
+      // give up the place in the queue if the attempt times out
+      result.whenComplete((r, t) -> permit.cancel(false));
+      return result;
+    };
+  }
+
   <V> long shouldRetry(StandardHttpRequest request, Function<V, HttpResponse<?>> responseExtractor, V response,
       Throwable throwable, long retryInterval) {
     if (response != null) {
@@ -238,11 +336,22 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
   final CompletableFuture<WebSocket> buildWebSocket(StandardWebSocketBuilder standardWebSocketBuilder,
       Listener listener) {
 
+    final ClientMetrics metrics = ClientMetrics.from(this);
+    final long start = System.nanoTime();
+    final AtomicInteger attempts = new AtomicInteger();
     final CompletableFuture<WebSocketResponse> intermediate = retryWithExponentialBackoff(
         standardWebSocketBuilder.asHttpRequest(),
-        () -> buildWebSocketOnce(standardWebSocketBuilder, listener),
+        () -> {
+          attempts.incrementAndGet();
+          return buildWebSocketOnce(standardWebSocketBuilder, listener);
+        },
         r -> Optional.ofNullable(r.webSocket).ifPresent(w -> w.sendClose(1000, null)),
         r -> r.webSocketUpgradeResponse);
+    if (metrics != ClientMetrics.NOOP) {
+      intermediate.whenComplete((r, t) -> recordRequest(metrics, null, standardWebSocketBuilder.asHttpRequest(),
+          t == null && r.webSocketUpgradeResponse != null ? r.webSocketUpgradeResponse.code() : RequestMetric.NO_RESPONSE,
+          start, 0, attempts.get()));
+    }
 
     CompletableFuture<WebSocket> result = new CompletableFuture<>();
 
@@ -275,7 +384,7 @@ public abstract class StandardHttpClient<C extends HttpClient, F extends HttpCli
         if (response.throwable != null) {
           return interceptor.afterFailure(copy, response.webSocketUpgradeResponse, this).thenCompose(b -> {
             if (Boolean.TRUE.equals(b)) {
-              return this.buildWebSocketDirect(copy, listener);
+              return limited(copy.asHttpRequest(), () -> this.buildWebSocketDirect(copy, listener)).get();
             }
             CompletableFuture<WebSocketResponse> result = CompletableFuture.completedFuture(response);
             result.thenAccept(r -> builder.getInterceptors().values()
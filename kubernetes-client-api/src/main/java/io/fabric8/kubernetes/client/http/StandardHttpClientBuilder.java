@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.http;
 import io.fabric8.kubernetes.client.http.HttpClient.DerivedClientBuilder;
 import io.fabric8.kubernetes.client.http.HttpClient.ProxyType;
 import io.fabric8.kubernetes.client.internal.SSLUtils;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import lombok.Getter;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +43,7 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
   protected InetSocketAddress proxyAddress;
   protected boolean followRedirects;
   protected boolean preferHttp11;
+  protected boolean disableCompression;
   protected TlsVersion[] tlsVersions;
   protected boolean authenticatorNone;
   protected C client;
@@ -125,6 +127,12 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
     return (T) this;
   }
 
+  @Override
+  public T disableCompression() {
+    this.disableCompression = true;
+    return (T) this;
+  }
+
   public T clientFactory(F clientFactory) {
     this.clientFactory = clientFactory;
     return (T) this;
@@ -134,6 +142,10 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
   public DerivedClientBuilder tag(Object value) {
     if (value != null) {
       this.tags.put(value.getClass(), value);
+      if (value instanceof ClientMetrics) {
+        // tags are looked up by their exact class, so also register any metrics implementation under the SPI type
+        this.tags.put(ClientMetrics.class, value);
+      }
     }
     return this;
   }
@@ -151,6 +163,7 @@ public abstract class StandardHttpClientBuilder<C extends HttpClient, F extends
     copy.proxyAuthorization = this.proxyAuthorization;
     copy.tlsVersions = this.tlsVersions;
     copy.preferHttp11 = this.preferHttp11;
+    copy.disableCompression = this.disableCompression;
     copy.followRedirects = this.followRedirects;
     copy.authenticatorNone = this.authenticatorNone;
     copy.client = client;
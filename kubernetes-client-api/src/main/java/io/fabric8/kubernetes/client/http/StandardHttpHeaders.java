@@ -29,6 +29,8 @@ public class StandardHttpHeaders implements HttpHeaders {
   public static final String EXPECT_CONTINUE = "100-continue";
   public static final String RETRY_AFTER = "Retry-After";
   public static final String PROXY_AUTHORIZATION = "Proxy-Authorization";
+  public static final String ACCEPT_ENCODING = "Accept-Encoding";
+  public static final String CONTENT_ENCODING = "Content-Encoding";
 
   private final Map<String, List<String>> headers;
 
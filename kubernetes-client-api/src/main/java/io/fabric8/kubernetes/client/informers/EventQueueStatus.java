@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * A point in time view of the pending notifications for a single {@link ResourceEventHandler}.
+ */
+public interface EventQueueStatus {
+
+  /**
+   * @return the handler the queue belongs to
+   */
+  ResourceEventHandler<?> getHandler();
+
+  /**
+   * @return the number of notifications waiting to be delivered
+   */
+  int getPending();
+
+  /**
+   * @return how long the oldest pending notification has been waiting, or 0 if nothing is pending
+   */
+  long getLagMillis();
+
+  /**
+   * @return the number of notifications that were merged into an already pending notification
+   */
+  long getCoalesced();
+
+  /**
+   * @return the number of notifications dropped due to {@link QueueOverflowPolicy#DROP_AND_RESYNC}
+   */
+  long getDropped();
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers;
+
+/**
+ * Determines what happens when a notification is distributed to a {@link ResourceEventHandler} whose
+ * pending event queue is already at capacity.
+ */
+public enum QueueOverflowPolicy {
+
+  /**
+   * Block the distributing thread until the handler has room. This applies backpressure to the
+   * informer, and ultimately to the underlying watch.
+   */
+  BLOCK,
+
+  /**
+   * Merge the notification into an already pending notification for the same key, so that the handler
+   * only sees the latest old/new pair. If there is nothing pending for the key, this behaves like {@link #BLOCK}.
+   */
+  COALESCE,
+
+  /**
+   * Drop the notification and remember its key. Once the handler has caught up it will receive a notification
+   * derived from the current cache state for each dropped key.
+   */
+  DROP_AND_RESYNC
+
+}
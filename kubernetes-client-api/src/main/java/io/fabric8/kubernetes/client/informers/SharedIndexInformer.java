@@ -21,11 +21,13 @@ import io.fabric8.kubernetes.client.informers.cache.Indexer;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Store;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +42,17 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
    */
   SharedIndexInformer<T> addIndexers(Map<String, Function<T, List<String>>> indexers);
 
+  /**
+   * Maintain indexes on the given label keys, see {@link Indexer#addLabelIndexes(String...)}
+   *
+   * @param labelKeys the label keys to index
+   * @return this
+   */
+  default SharedIndexInformer<T> addLabelIndexes(String... labelKeys) {
+    getIndexer().addLabelIndexes(labelKeys);
+    return this;
+  }
+
   /**
    * Remove the namesapce index
    *
@@ -137,6 +150,19 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
    */
   String lastSyncResourceVersion();
 
+  /**
+   * The resource versions observed when last synced, keyed by namespace. An informer for several namespaces
+   * runs a list/watch per namespace and has an entry for each, otherwise there is a single entry.
+   * <p>
+   * Resource versions are opaque and cannot be compared, so these rather than {@link #lastSyncResourceVersion()}
+   * are needed to resume an informer for several namespaces - see {@link #initialState(Stream, Map)}.
+   *
+   * @return the versions, with a null value for each list/watch that has not synced
+   */
+  default Map<String, String> lastSyncResourceVersions() {
+    return Collections.singletonMap(null, lastSyncResourceVersion());
+  }
+
   /**
    * Return true if the informer is running
    * <p>
@@ -174,8 +200,89 @@ public interface SharedIndexInformer<T> extends AutoCloseable {
    */
   SharedIndexInformer<T> initialState(Stream<T> items);
 
+  /**
+   * Sets the initial state of the informer store as it was at the given resourceVersions, for example
+   * as restored by {@link io.fabric8.kubernetes.client.informers.cache.InformerSnapshot}. Rather than
+   * listing, each list/watch will start watching from its resourceVersion. If a resourceVersion is no
+   * longer available, that list/watch falls back to listing, which will emit the relevant delete and update events.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param items
+   * @param resourceVersions the resourceVersions the items are current as of, keyed as by
+   *        {@link #lastSyncResourceVersions()}. A list/watch without a resourceVersion lists at start.
+   */
+  SharedIndexInformer<T> initialState(Stream<T> items, Map<String, String> resourceVersions);
+
   SharedIndexInformer<T> itemStore(ItemStore<T> itemStore);
 
+  /**
+   * Transform each object once as it is received, before it is stored and passed to the handlers.
+   * This may be used to drop fields that are never read, which reduces the memory held by the store.
+   * For example
+   *
+   * <pre>
+   * informer.transform(pod -&gt; {
+   *   pod.getMetadata().setManagedFields(null);
+   *   return pod;
+   * });
+   * </pre>
+   * <p>
+   * The transform may modify and return the object it is given, or return a new object. It must preserve
+   * the name, namespace and resourceVersion, and should be idempotent as it is also applied to the initial state.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param transform the transform function
+   * @return this
+   */
+  SharedIndexInformer<T> transform(UnaryOperator<T> transform);
+
+  /**
+   * Use the watch list protocol to stream the initial state as watch events, rather than listing.
+   * <p>
+   * This avoids holding the full list response in memory on both the server and the client. If the
+   * server does not support streaming the initial events, the informer falls back to list and watch.
+   * <br>
+   * Can only be called before the informer is running
+   *
+   * @param watchList true to use watch list, the default is false
+   * @return this
+   */
+  SharedIndexInformer<T> watchList(boolean watchList);
+
+  /**
+   * Bound the pending notifications of each handler subsequently added to this informer.
+   * <p>
+   * Each handler has its own queue and is invoked independently of the other handlers, so a slow
+   * handler only delays itself until its queue is full. The default is an unbounded queue.
+   *
+   * @param capacity the maximum number of pending notifications per handler, must be positive
+   * @param policy what to do when a handler's queue is full
+   * @return this
+   */
+  SharedIndexInformer<T> eventQueue(int capacity, QueueOverflowPolicy policy);
+
+  /**
+   * Coalesce the pending notifications of each handler subsequently added to this informer by key.
+   * <p>
+   * Rather than replaying every intermediate version of an object, a handler that is behind will only
+   * see the latest old/new pair for that object when it catches up, for example an add followed by
+   * updates is delivered as a single add of the latest state. Notifications for different keys are still
+   * delivered in the order they were first seen.
+   *
+   * @param coalesce true to coalesce, the default is false
+   * @return this
+   */
+  SharedIndexInformer<T> coalesceEvents(boolean coalesce);
+
+  /**
+   * Return the status of the pending notifications for each registered handler
+   *
+   * @return the list of {@link EventQueueStatus}
+   */
+  List<EventQueueStatus> getEventQueueStatus();
+
   /**
    * A non-blocking alternative to run. Starts the shared informer, which will normally be stopped when {@link #stop()} is
    * called.
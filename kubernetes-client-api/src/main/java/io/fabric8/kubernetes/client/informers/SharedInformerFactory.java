@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.informers;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.dsl.Informable;
 
+import java.util.Collection;
 import java.util.concurrent.Future;
 
 public interface SharedInformerFactory {
@@ -57,6 +58,22 @@ public interface SharedInformerFactory {
   <T extends HasMetadata> SharedIndexInformer<T> sharedIndexInformerFor(Class<T> apiTypeClass,
       long resyncPeriodInMillis);
 
+  /**
+   * Constructs and returns a shared index informer over the given namespaces with resync period specified.
+   * There is a list and watch for each namespace, but only a single cache and set of handlers.
+   *
+   * @param apiTypeClass apiType class, must be namespace scoped
+   * @param resyncPeriodInMillis resync period in milliseconds
+   * @param namespaces the namespaces to inform on
+   * @param <T> the type parameter
+   * @return the shared index informer
+   * @throws UnsupportedOperationException if the implementation does not support multiple namespaces
+   */
+  default <T extends HasMetadata> SharedIndexInformer<T> sharedIndexInformerFor(Class<T> apiTypeClass,
+      long resyncPeriodInMillis, Collection<String> namespaces) {
+    throw new UnsupportedOperationException("Informing on multiple namespaces is not supported");
+  }
+
   /**
    * Gets existing shared index informer, return null if the requesting informer
    * is never constructed. If there are multiple SharedIndexInformer objects corresponding
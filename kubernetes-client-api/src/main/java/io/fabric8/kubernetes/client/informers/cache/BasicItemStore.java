@@ -66,4 +66,9 @@ public class BasicItemStore<V extends HasMetadata> implements ItemStore<V> {
     return store.size();
   }
 
+  @Override
+  public boolean isConcurrent() {
+    return true;
+  }
+
 }
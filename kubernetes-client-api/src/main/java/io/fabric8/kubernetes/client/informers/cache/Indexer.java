@@ -15,9 +15,13 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.LabelSelector;
+
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Indexer extends Store interface and add index/de-index methods.
@@ -76,4 +80,43 @@ public interface Indexer<T> extends Store<T> {
    * @param name
    */
   void removeIndexer(String name);
+
+  /**
+   * Maintain indexes on the given label keys, so that label selector queries referencing them only
+   * visit the matching objects.
+   * <p>
+   * Implementations without label index support may ignore this, queries will then scan all objects.
+   *
+   * @param labelKeys the label keys to index
+   */
+  default void addLabelIndexes(String... labelKeys) {
+    // queries will scan
+  }
+
+  /**
+   * Lists objects that match the label selector and the filter.
+   *
+   * @param selector the label selector, null matches everything
+   * @param filter an additional predicate, for example on fields, may be null
+   * @return matched objects
+   */
+  default List<T> byLabelSelector(LabelSelector selector, Predicate<T> filter) {
+    return list().stream().filter(item -> LabelSelectorMatcher.matches(item, selector, filter))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Lists objects that match on the named indexing function with the exact key, the label selector and the
+   * filter.
+   *
+   * @param indexName specific indexing function
+   * @param indexKey specific index key
+   * @param selector the label selector, null matches everything
+   * @param filter an additional predicate, for example on fields, may be null
+   * @return matched objects
+   */
+  default List<T> byIndex(String indexName, String indexKey, LabelSelector selector, Predicate<T> filter) {
+    return byIndex(indexName, indexKey).stream().filter(item -> LabelSelectorMatcher.matches(item, selector, filter))
+        .collect(Collectors.toList());
+  }
 }
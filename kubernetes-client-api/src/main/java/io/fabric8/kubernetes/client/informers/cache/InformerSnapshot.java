@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persists the state of an informer to a local file so that a restarted process can resume
+ * watching instead of listing everything again.
+ * <p>
+ * The file is gzipped json lines - a header with the resourceVersion of each namespace followed by one item per line.
+ * It is replaced atomically by each {@link #save(SharedIndexInformer)}, so a crash while saving leaves
+ * the previous snapshot intact.
+ * <p>
+ * Typical usage:
+ *
+ * <pre>
+ * InformerSnapshot snapshot = new InformerSnapshot(path, client.getKubernetesSerialization());
+ * SharedIndexInformer&lt;Pod&gt; informer = client.pods().runnableInformer(0);
+ * snapshot.restore(informer);
+ * informer.start();
+ * ...
+ * snapshot.save(informer); // periodically or on shutdown
+ * </pre>
+ * <p>
+ * The snapshot should only be restored into an informer with the same type, namespace and selectors as the one
+ * it was saved from - otherwise the resumed watch will not reconcile the difference.
+ */
+public class InformerSnapshot {
+
+  private static final Logger log = LoggerFactory.getLogger(InformerSnapshot.class);
+
+  static final int FORMAT_VERSION = 1;
+  static final String FORMAT_VERSION_FIELD = "formatVersion";
+  static final String TYPE_FIELD = "type";
+  static final String RESOURCE_VERSIONS_FIELD = "resourceVersions";
+  // namespaces are never empty, so this stands for the list/watch of all namespaces
+  static final String ALL_NAMESPACES_KEY = "";
+
+  private final Path file;
+  private final KubernetesSerialization serialization;
+
+  /**
+   * @param file the snapshot file - the parent directory must exist
+   * @param serialization the serialization to use
+   */
+  public InformerSnapshot(Path file, KubernetesSerialization serialization) {
+    this.file = Objects.requireNonNull(file);
+    this.serialization = Objects.requireNonNull(serialization);
+  }
+
+  /**
+   * Write the current state of the informer. The informer should have synced, otherwise nothing is written.
+   * <p>
+   * The resourceVersions are read before the items, so the items are at least as current as the
+   * resourceVersions - a resumed watch may replay events that are already reflected, but will not miss any.
+   *
+   * @param informer the informer to save
+   * @return true if a snapshot was written
+   */
+  public <T extends HasMetadata> boolean save(SharedIndexInformer<T> informer) {
+    Map<String, String> resourceVersions = new LinkedHashMap<>();
+    for (Map.Entry<String, String> entry : informer.lastSyncResourceVersions().entrySet()) {
+      if (entry.getValue() == null) {
+        return false;
+      }
+      resourceVersions.put(entry.getKey() == null ? ALL_NAMESPACES_KEY : entry.getKey(), entry.getValue());
+    }
+    if (resourceVersions.isEmpty()) {
+      return false;
+    }
+    Map<String, Object> header = new LinkedHashMap<>();
+    header.put(FORMAT_VERSION_FIELD, FORMAT_VERSION);
+    header.put(TYPE_FIELD, informer.getApiTypeClass().getName());
+    header.put(RESOURCE_VERSIONS_FIELD, resourceVersions);
+    Path temp = null;
+    try {
+      temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+      try (BufferedWriter writer = new BufferedWriter(
+          new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+        writeLine(writer, header);
+        for (T item : informer.getStore().list()) {
+          writeLine(writer, item);
+        }
+      }
+      try {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      temp = null;
+      return true;
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    } finally {
+      if (temp != null) {
+        try {
+          Files.deleteIfExists(temp);
+        } catch (IOException e) {
+          log.debug("Could not delete {}", temp, e);
+        }
+      }
+    }
+  }
+
+  private void writeLine(BufferedWriter writer, Object value) throws IOException {
+    // the json is written compactly, so embedded newlines are always escaped
+    writer.write(serialization.asJson(value));
+    writer.newLine();
+  }
+
+  /**
+   * Set the initial state of the informer from the snapshot, if one exists. The informer must not be running.
+   * <p>
+   * A missing, unreadable or incompatible snapshot is ignored, and the informer will list as usual.
+   *
+   * @param informer the informer to restore
+   * @return true if the snapshot was restored
+   */
+  public <T extends HasMetadata> boolean restore(SharedIndexInformer<T> informer) {
+    if (!Files.isRegularFile(file)) {
+      return false;
+    }
+    Class<T> type = informer.getApiTypeClass();
+    Map<String, String> resourceVersions;
+    List<T> items = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+      String line = reader.readLine();
+      if (line == null) {
+        return false;
+      }
+      Map<String, Object> header = serialization.unmarshal(
+          new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8)), new TypeReference<Map<String, Object>>() {
+          });
+      resourceVersions = resourceVersions(header.get(RESOURCE_VERSIONS_FIELD));
+      if (!Objects.equals(FORMAT_VERSION, header.get(FORMAT_VERSION_FIELD))
+          || !type.getName().equals(header.get(TYPE_FIELD)) || resourceVersions == null) {
+        log.warn("Ignoring the snapshot {} as it is incompatible with {}", file, type.getName());
+        return false;
+      }
+      while ((line = reader.readLine()) != null) {
+        items.add(serialization.unmarshal(line, type));
+      }
+    } catch (IOException | RuntimeException e) {
+      log.warn("Ignoring the unreadable snapshot {}", file, e);
+      return false;
+    }
+    informer.initialState(items.stream(), resourceVersions);
+    return true;
+  }
+
+  private static Map<String, String> resourceVersions(Object value) {
+    if (!(value instanceof Map)) {
+      return null;
+    }
+    Map<String, String> result = new LinkedHashMap<>();
+    for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+      if (!(entry.getValue() instanceof String)) {
+        return null;
+      }
+      String namespace = String.valueOf(entry.getKey());
+      result.put(ALL_NAMESPACES_KEY.equals(namespace) ? null : namespace, (String) entry.getValue());
+    }
+    return result;
+  }
+
+}
@@ -15,6 +15,7 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 
@@ -31,9 +32,10 @@ import java.util.stream.Stream;
  * Direct modifications to this store by anything other than the informer will not updated indexes nor emit events.
  * <p>
  * The implementation should be safe with respect to concurrency. Modifications from the informer
- * will be single threaded, but not necessarily the same thread. Reads may be concurrent with writes.
+ * will be single threaded, but not necessarily the same thread, unless the store opts into concurrent
+ * modifications with {@link #isConcurrent()}. Reads may be concurrent with writes.
  * <p>
- * See an example implementations {@link BasicItemStore} and {@link ReducedStateItemStore}
+ * See example implementations {@link BasicItemStore}, {@link ReducedStateItemStore} and {@link SerializedItemStore}
  *
  * @param <V>
  */
@@ -53,6 +55,22 @@ public interface ItemStore<V> {
 
   V get(String key);
 
+  /**
+   * Get the resourceVersion of the item with the given key. Used when relisting to skip items
+   * that have not changed - stores that do not hold the full object should override this
+   * to avoid restoring the item.
+   *
+   * @param key the key
+   * @return the resourceVersion, or null if there is no such item
+   */
+  default String getResourceVersion(String key) {
+    V result = get(key);
+    if (result instanceof HasMetadata) {
+      return ((HasMetadata) result).getMetadata().getResourceVersion();
+    }
+    return null;
+  }
+
   /**
    * Used to determine if initial add events can be deferred until
    * the entire list operation has completed - when using a limit
@@ -67,4 +85,16 @@ public interface ItemStore<V> {
     return true;
   }
 
+  /**
+   * Used to determine if modifications of different keys may be made concurrently, for example by the
+   * list/watches of an informer over several namespaces. Modifications of the same key are always serialized.
+   * <br>
+   * If false, then all modifications are serialized.
+   *
+   * @return true if the store supports concurrent modifications of different keys
+   */
+  default boolean isConcurrent() {
+    return false;
+  }
+
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates a {@link LabelSelector} against the labels of an object, with the same semantics as the api server.
+ */
+public final class LabelSelectorMatcher {
+
+  public static final String IN = "In";
+  public static final String NOT_IN = "NotIn";
+  public static final String EXISTS = "Exists";
+  public static final String DOES_NOT_EXIST = "DoesNotExist";
+
+  private LabelSelectorMatcher() {
+  }
+
+  /**
+   * @param selector the selector, null or empty matches everything
+   * @param obj the object
+   * @return true if the labels of the object match the selector
+   */
+  public static boolean matches(LabelSelector selector, HasMetadata obj) {
+    Map<String, String> labels = obj == null || obj.getMetadata() == null ? null : obj.getMetadata().getLabels();
+    return matches(selector, labels);
+  }
+
+  /**
+   * @param selector the selector, null or empty matches everything
+   * @param labels the labels, may be null
+   * @return true if the labels match the selector
+   */
+  public static boolean matches(LabelSelector selector, Map<String, String> labels) {
+    if (selector == null) {
+      return true;
+    }
+    if (labels == null) {
+      labels = Collections.emptyMap();
+    }
+    Map<String, String> matchLabels = selector.getMatchLabels();
+    if (matchLabels != null) {
+      for (Map.Entry<String, String> entry : matchLabels.entrySet()) {
+        if (!Objects.equals(entry.getValue(), labels.get(entry.getKey()))) {
+          return false;
+        }
+      }
+    }
+    List<LabelSelectorRequirement> matchExpressions = selector.getMatchExpressions();
+    if (matchExpressions != null) {
+      for (LabelSelectorRequirement requirement : matchExpressions) {
+        if (!matches(requirement, labels)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  static <T> boolean matches(T item, LabelSelector selector, Predicate<T> filter) {
+    // items without metadata have no labels to select on
+    return (selector == null || (item instanceof HasMetadata && matches(selector, (HasMetadata) item)))
+        && (filter == null || filter.test(item));
+  }
+
+  private static boolean matches(LabelSelectorRequirement requirement, Map<String, String> labels) {
+    String value = labels.get(requirement.getKey());
+    List<String> values = requirement.getValues() == null ? Collections.emptyList() : requirement.getValues();
+    switch (requirement.getOperator()) {
+      case IN:
+        return value != null && values.contains(value);
+      case NOT_IN:
+        return value == null || !values.contains(value);
+      case EXISTS:
+        return value != null;
+      case DOES_NOT_EXIST:
+        return value == null;
+      default:
+        throw new IllegalArgumentException("Unsupported label selector operator: " + requirement.getOperator());
+    }
+  }
+
+}
@@ -15,7 +15,10 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.LabelSelector;
+
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Lister interface is used to list cached items from a running informer.
@@ -51,6 +54,32 @@ public class Lister<T> {
     }
   }
 
+  /**
+   * List the objects matching the label selector
+   *
+   * @param selector the label selector
+   * @return the matching objects
+   */
+  public List<T> list(LabelSelector selector) {
+    return list(selector, null);
+  }
+
+  /**
+   * List the objects matching the label selector and the filter. Label keys indexed with
+   * {@link Indexer#addLabelIndexes(String...)} narrow the objects that are visited.
+   *
+   * @param selector the label selector, null matches everything
+   * @param filter an additional predicate, for example on fields, may be null
+   * @return the matching objects
+   */
+  public List<T> list(LabelSelector selector, Predicate<T> filter) {
+    if ((namespace == null || namespace.isEmpty())) {
+      return indexer.byLabelSelector(selector, filter);
+    } else {
+      return indexer.byIndex(this.indexName, namespace, selector, filter);
+    }
+  }
+
   public T get(String name) {
     String key = name;
     if (namespace != null && !namespace.isEmpty()) {
@@ -15,10 +15,12 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
-import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.FieldPath;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -27,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -39,7 +42,10 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
   private static final String METADATA = "metadata";
   private final ConcurrentHashMap<String, Object[]> store = new ConcurrentHashMap<>();
   private final List<String[]> fields = new ArrayList<>();
+  private final List<FieldPath> fieldPaths;
+  private final List<FieldPath> keyFieldPaths;
   private final Class<V> typeClass;
+  private final Constructor<V> constructor;
   private final KeyState keyState;
   private KubernetesSerialization serialization;
 
@@ -111,29 +117,81 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
       }
     }
     this.typeClass = typeClass;
+    this.constructor = getConstructor(typeClass);
     this.serialization = serialization;
+    this.fieldPaths = fields.stream().map(serialization::createFieldPath).collect(Collectors.toList());
+    this.keyFieldPaths = keyState.keyFields.stream().map(serialization::createFieldPath).collect(Collectors.toList());
   }
 
   Object[] store(V value) {
     if (value == null) {
       return null;
     }
-    Map<String, Object> raw = serialization.convertValue(value, Map.class);
-    return fields.stream().map(f -> GenericKubernetesResource.get(raw, (Object[]) f)).toArray();
+    // read just the needed fields rather than converting the whole resource
+    Object[] result = new Object[fieldPaths.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = fieldPaths.get(i).get(value);
+    }
+    return result;
   }
 
   V restore(String key, Object[] values) {
     if (values == null) {
       return null;
     }
+    String[] keyParts = this.keyState.keyFieldFunction.apply(key);
+    V result = restoreDirectly(values, keyParts);
+    if (result != null) {
+      return result;
+    }
     Map<String, Object> raw = new HashMap<>();
     applyFields(values, raw, this.fields);
-    String[] keyParts = this.keyState.keyFieldFunction.apply(key);
     applyFields(keyParts, raw, this.keyState.keyFields);
 
     return serialization.convertValue(raw, typeClass);
   }
 
+  /**
+   * Build the typed object directly from the stored fields
+   *
+   * @return the object, or null if it could not be built directly
+   */
+  private V restoreDirectly(Object[] values, String[] keyParts) {
+    if (constructor == null) {
+      return null;
+    }
+    V result;
+    try {
+      result = constructor.newInstance();
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+    if (applyFields(values, result, this.fieldPaths) && applyFields(keyParts, result, this.keyFieldPaths)) {
+      return result;
+    }
+    return null;
+  }
+
+  private static <V> Constructor<V> getConstructor(Class<V> typeClass) {
+    if (typeClass.isInterface() || Modifier.isAbstract(typeClass.getModifiers())) {
+      return null;
+    }
+    try {
+      return typeClass.getConstructor();
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static boolean applyFields(Object[] values, Object target, List<FieldPath> fieldPaths) {
+    for (int i = 0; i < fieldPaths.size(); i++) {
+      if (values[i] != null && !fieldPaths.get(i).set(target, values[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static void applyFields(Object[] values, Map<String, Object> raw, List<String[]> fields) {
     for (int i = 0; i < fields.size(); i++) {
       Object value = values[i];
@@ -174,8 +232,10 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
     return restore(key, store.get(key));
   }
 
+  @Override
   public String getResourceVersion(String key) {
-    return (String) store.getOrDefault(key, new Object[1])[0];
+    Object[] values = store.get(key);
+    return values == null ? null : (String) values[0];
   }
 
   @Override
@@ -193,4 +253,9 @@ public class ReducedStateItemStore<V extends HasMetadata> implements ItemStore<V
     return false;
   }
 
+  @Override
+  public boolean isConcurrent() {
+    return true;
+  }
+
 }
@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores each item as compressed JSON rather than as a model object, which is typically
+ * many times smaller than the object graph. Items are decoded on access, and a small cache
+ * keeps the most recently used decoded items.
+ * <p>
+ * The encoded items may optionally be kept off-heap in direct buffers - those count against the
+ * JVM's direct memory limit rather than the heap.
+ * <p>
+ * Every {@link #get(String)} that misses the decoded cache, and every item streamed by {@link #values()},
+ * is deserialized - so this store trades cpu for memory. It is best suited to very large caches where
+ * only a fraction of the items are read frequently. Items streamed by {@link #values()} are not added to the
+ * decoded cache, so a full scan does not evict the frequently read items.
+ * <p>
+ * The store pools native compression resources, {@link #close()} releases them once the store is no longer used.
+ */
+public class SerializedItemStore<V extends HasMetadata> implements ItemStore<V>, AutoCloseable {
+
+  public static final int DEFAULT_DECODED_CACHE_SIZE = 256;
+
+  // enough for concurrent readers without holding on to many native zlib streams
+  private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  // common json fragments of kubernetes resources - improves the compression of small items
+  private static final byte[] DICTIONARY = ("\"managedFields\":[{\"manager\":\"\",\"operation\":\"Update\","
+      + "\"apiVersion\":\"v1\",\"time\":\"\",\"fieldsType\":\"FieldsV1\",\"fieldsV1\":{\"f:metadata\":{\"f:labels\":{"
+      + "\"ownerReferences\":[{\"apiVersion\":\"\",\"kind\":\"\",\"name\":\"\",\"uid\":\"\",\"controller\":true,"
+      + "\"blockOwnerDeletion\":true}],\"annotations\":{},\"labels\":{\"app.kubernetes.io/name\":\"\","
+      + "\"creationTimestamp\":\"\",\"generation\":1,\"resourceVersion\":\"\",\"uid\":\"\","
+      + "\"immutable\":false,\"type\":\"Opaque\",\"data\":{},\"spec\":{},\"status\":{},"
+      + "\"apiVersion\":\"v1\",\"kind\":\"\",\"metadata\":{\"name\":\"\",\"namespace\":\"\"")
+      .getBytes(StandardCharsets.UTF_8);
+
+  private final ConcurrentHashMap<String, Object> store = new ConcurrentHashMap<>();
+  private final Function<V, String> keyFunction;
+  private final Class<V> typeClass;
+  private final KubernetesSerialization serialization;
+  private final boolean offHeap;
+  private final Map<String, V> decoded;
+  private final Queue<Deflater> deflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+  private final Queue<Inflater> inflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+  private volatile boolean closed;
+
+  /**
+   * Create a store with heap storage and the default decoded cache size
+   *
+   * @param keyFunction the key function - should match the one used by the informer
+   * @param typeClass the expected type
+   * @param serialization the serialization to use
+   */
+  public SerializedItemStore(Function<V, String> keyFunction, Class<V> typeClass, KubernetesSerialization serialization) {
+    this(keyFunction, typeClass, serialization, DEFAULT_DECODED_CACHE_SIZE, false);
+  }
+
+  /**
+   * @param keyFunction the key function - should match the one used by the informer
+   * @param typeClass the expected type
+   * @param serialization the serialization to use
+   * @param decodedCacheSize the number of decoded items to retain, 0 disables the cache
+   * @param offHeap true if the encoded items should be stored in direct buffers
+   */
+  public SerializedItemStore(Function<V, String> keyFunction, Class<V> typeClass, KubernetesSerialization serialization,
+      int decodedCacheSize, boolean offHeap) {
+    if (decodedCacheSize < 0) {
+      throw new IllegalArgumentException("decodedCacheSize must not be negative");
+    }
+    this.keyFunction = keyFunction;
+    this.typeClass = typeClass;
+    this.serialization = serialization;
+    this.offHeap = offHeap;
+    this.decoded = decodedCacheSize == 0 ? null : new LinkedHashMap<String, V>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return size() > decodedCacheSize;
+      }
+    };
+  }
+
+  @Override
+  public String getKey(V obj) {
+    return keyFunction.apply(obj);
+  }
+
+  @Override
+  public V put(String key, V obj) {
+    Object encoded = encode(obj);
+    Object previous;
+    V old = null;
+    if (decoded == null) {
+      previous = store.put(key, encoded);
+    } else {
+      synchronized (decoded) {
+        old = decoded.put(key, obj);
+        previous = store.put(key, encoded);
+      }
+    }
+    if (old == null && previous != null) {
+      old = decode(previous);
+    }
+    return old;
+  }
+
+  @Override
+  public V remove(String key) {
+    Object previous;
+    V old = null;
+    if (decoded == null) {
+      previous = store.remove(key);
+    } else {
+      synchronized (decoded) {
+        old = decoded.remove(key);
+        previous = store.remove(key);
+      }
+    }
+    if (old == null && previous != null) {
+      old = decode(previous);
+    }
+    return old;
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return store.keySet().stream();
+  }
+
+  @Override
+  public Stream<V> values() {
+    // iterate the entries rather than the keys, so that concurrently removed items are not seen as null
+    return store.entrySet().stream().map(e -> scanned(e.getKey(), e.getValue()));
+  }
+
+  private V scanned(String key, Object encoded) {
+    if (decoded != null) {
+      synchronized (decoded) {
+        V result = decoded.get(key);
+        if (result != null) {
+          return result;
+        }
+      }
+    }
+    return decode(encoded);
+  }
+
+  @Override
+  public int size() {
+    return store.size();
+  }
+
+  @Override
+  public V get(String key) {
+    if (decoded == null) {
+      Object encoded = store.get(key);
+      return encoded == null ? null : decode(encoded);
+    }
+    Object encoded;
+    synchronized (decoded) {
+      V result = decoded.get(key);
+      if (result != null) {
+        return result;
+      }
+      encoded = store.get(key);
+    }
+    if (encoded == null) {
+      return null;
+    }
+    V result = decode(encoded);
+    synchronized (decoded) {
+      // don't cache if the item was modified while decoding
+      if (store.get(key) == encoded) {
+        decoded.put(key, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the total size in bytes of the encoded items
+   */
+  public long getEncodedSize() {
+    return store.values().stream().mapToLong(v -> v instanceof ByteBuffer ? ((ByteBuffer) v).capacity() : ((byte[]) v).length)
+        .sum();
+  }
+
+  Object encode(V value) {
+    byte[] json = serialization.asJsonBytes(value);
+    byte[] result;
+    // modifications of different keys may be concurrent
+    Deflater deflater = deflaters.poll();
+    if (deflater == null) {
+      deflater = new Deflater(Deflater.BEST_SPEED);
+    }
+    try {
+      deflater.setDictionary(DICTIONARY);
+      deflater.setInput(json);
+      deflater.finish();
+      byte[] buffer = new byte[Integer.BYTES + Math.max(64, json.length / 2)];
+      int length = Integer.BYTES;
+      while (!deflater.finished()) {
+        if (length == buffer.length) {
+          buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        length += deflater.deflate(buffer, length, buffer.length - length);
+      }
+      ByteBuffer.wrap(buffer).putInt(json.length);
+      result = Arrays.copyOf(buffer, length);
+    } finally {
+      deflater.reset();
+      release(deflaters, deflater, Deflater::end);
+    }
+    if (!offHeap) {
+      return result;
+    }
+    ByteBuffer direct = ByteBuffer.allocateDirect(result.length);
+    direct.put(result).flip();
+    return direct;
+  }
+
+  V decode(Object encoded) {
+    byte[] bytes;
+    if (encoded instanceof ByteBuffer) {
+      ByteBuffer buffer = ((ByteBuffer) encoded).duplicate();
+      bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+    } else {
+      bytes = (byte[]) encoded;
+    }
+    byte[] json = new byte[ByteBuffer.wrap(bytes).getInt()];
+    Inflater inflater = inflaters.poll();
+    if (inflater == null) {
+      inflater = new Inflater();
+    }
+    try {
+      inflater.setInput(bytes, Integer.BYTES, bytes.length - Integer.BYTES);
+      int length = 0;
+      while (!inflater.finished()) {
+        if (inflater.needsDictionary()) {
+          inflater.setDictionary(DICTIONARY);
+        }
+        int read = inflater.inflate(json, length, json.length - length);
+        if (read == 0 && inflater.needsInput()) {
+          throw new IllegalStateException("Truncated item");
+        }
+        length += read;
+      }
+    } catch (DataFormatException e) {
+      throw new IllegalStateException(e);
+    } finally {
+      inflater.reset();
+      release(inflaters, inflater, Inflater::end);
+    }
+    return serialization.unmarshal(new ByteArrayInputStream(json), typeClass);
+  }
+
+  private <Z> void release(Queue<Z> pool, Z zlib, Consumer<Z> end) {
+    if (closed || !pool.offer(zlib)) {
+      end.accept(zlib);
+    } else if (closed && pool.remove(zlib)) {
+      // closed concurrently
+      end.accept(zlib);
+    }
+  }
+
+  /**
+   * Release the pooled native compression resources. The store remains usable, but will no longer pool.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    Deflater deflater;
+    while ((deflater = deflaters.poll()) != null) {
+      deflater.end();
+    }
+    Inflater inflater;
+    while ((inflater = inflaters.poll()) != null) {
+      inflater.end();
+    }
+  }
+
+  @Override
+  public boolean isConcurrent() {
+    return true;
+  }
+
+}
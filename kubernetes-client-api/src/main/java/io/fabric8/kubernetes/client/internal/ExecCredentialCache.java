@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.internal;
+
+import io.fabric8.kubernetes.client.Config.ExecCredential;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the result of exec credential plugins so that the external process is only started when there is
+ * no valid credential.
+ * <p>
+ * A credential with an expirationTimestamp is refreshed shortly before it expires, one without is kept until
+ * it is rejected by the server. Concurrent callers share a single in-flight refresh.
+ */
+final class ExecCredentialCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(ExecCredentialCache.class);
+
+  static final Duration REFRESH_AHEAD = Duration.ofMinutes(1);
+
+  private static final class CachedCredential {
+    private final CompletableFuture<ExecCredential> credential = new CompletableFuture<>();
+    private volatile Instant expiration;
+  }
+
+  private final Map<Object, CachedCredential> credentials = new ConcurrentHashMap<>();
+  private final Clock clock;
+
+  ExecCredentialCache(Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Get the credential for the given key, running the plugin via the loader if there is no valid credential.
+   */
+  ExecCredential get(Object key, Supplier<ExecCredential> loader) {
+    CachedCredential created = new CachedCredential();
+    CachedCredential current = credentials.compute(key,
+        (k, existing) -> existing == null || isStale(existing) ? created : existing);
+    if (current == created) {
+      load(key, created, loader);
+    }
+    try {
+      return current.credential.join();
+    } catch (CompletionException e) {
+      throw KubernetesClientException.launderThrowable(e.getCause());
+    }
+  }
+
+  private void load(Object key, CachedCredential created, Supplier<ExecCredential> loader) {
+    ExecCredential credential;
+    try {
+      credential = loader.get();
+    } catch (RuntimeException e) {
+      credentials.remove(key, created);
+      created.credential.completeExceptionally(e);
+      return;
+    } catch (Throwable t) {
+      // make sure waiting callers, and the next refresh, don't wait on this entry forever
+      credentials.remove(key, created);
+      created.credential.completeExceptionally(t);
+      throw t;
+    }
+    Instant expiration = getExpiration(credential);
+    if (credential == null || (expiration != null && !expiration.isAfter(clock.instant()))) {
+      // nothing usable to cache, the next caller will run the plugin again
+      credentials.remove(key, created);
+    } else {
+      created.expiration = expiration;
+    }
+    created.credential.complete(credential);
+  }
+
+  private boolean isStale(CachedCredential cached) {
+    if (!cached.credential.isDone()) {
+      return false;
+    }
+    if (cached.credential.isCompletedExceptionally()) {
+      return true;
+    }
+    Instant expiration = cached.expiration;
+    return expiration != null && !expiration.minus(REFRESH_AHEAD).isAfter(clock.instant());
+  }
+
+  /**
+   * Remove any credential with the given token, so that the next request runs the plugin again
+   */
+  void invalidate(String token) {
+    credentials.values().removeIf(cached -> {
+      ExecCredential credential = cached.credential.getNow(null);
+      return credential != null && credential.status != null && Objects.equals(token, credential.status.token);
+    });
+  }
+
+  private static Instant getExpiration(ExecCredential credential) {
+    if (credential == null || credential.status == null || credential.status.expirationTimestamp == null) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(credential.status.expirationTimestamp).toInstant();
+    } catch (DateTimeParseException e) {
+      logger.warn("Could not parse the ExecCredential expirationTimestamp {}", credential.status.expirationTimestamp);
+      return Instant.MIN;
+    }
+  }
+
+}
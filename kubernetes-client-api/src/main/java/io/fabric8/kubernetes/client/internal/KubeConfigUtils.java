@@ -34,7 +34,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +63,7 @@ public class KubeConfigUtils {
   private static final String KUBERNETES_CONFIG_AUTH_INFO_FILE_KEY = "KUBERNETES_CONFIG_AUTH_INFO_FILE_KEY";
   private static final String ACCESS_TOKEN = "access-token";
   private static final String ID_TOKEN = "id-token";
+  private static final ExecCredentialCache EXEC_CREDENTIALS = new ExecCredentialCache(Clock.systemUTC());
 
   private KubeConfigUtils() {
   }
@@ -316,7 +319,10 @@ public class KubeConfigUtils {
   private static void mergeKubeConfigExecCredential(io.fabric8.kubernetes.client.Config config, ExecConfig exec,
       File configFile) {
     if (exec != null) {
-      io.fabric8.kubernetes.client.Config.ExecCredential ec = getExecCredentialFromExecConfig(exec, configFile);
+      List<String> command = getAuthenticatorCommandFromExecConfig(exec, configFile, Utils.getSystemPathVariable());
+      List<Object> key = Arrays.asList(exec.getApiVersion(), command, exec.getEnv());
+      io.fabric8.kubernetes.client.Config.ExecCredential ec = EXEC_CREDENTIALS.get(key,
+          () -> getExecCredentialFromExecConfig(exec, command));
       if (ec != null && ec.status != null) {
         if (ec.status.token != null) {
           config.setAutoOAuthToken(ec.status.token);
@@ -331,13 +337,27 @@ public class KubeConfigUtils {
     }
   }
 
+  /**
+   * Discard any cached exec credential with the given token, for example because it was rejected by the server.
+   *
+   * @param token the rejected token
+   */
+  public static void invalidateExecCredential(String token) {
+    EXEC_CREDENTIALS.invalidate(token);
+  }
+
   protected static io.fabric8.kubernetes.client.Config.ExecCredential getExecCredentialFromExecConfig(ExecConfig exec,
       File configFile) {
+    return getExecCredentialFromExecConfig(exec,
+        getAuthenticatorCommandFromExecConfig(exec, configFile, Utils.getSystemPathVariable()));
+  }
+
+  private static io.fabric8.kubernetes.client.Config.ExecCredential getExecCredentialFromExecConfig(ExecConfig exec,
+      List<String> command) {
     String apiVersion = exec.getApiVersion();
     List<ExecEnvVar> env = exec.getEnv();
     // TODO check behavior of tty & stdin
-    ProcessBuilder pb = new ProcessBuilder(
-        getAuthenticatorCommandFromExecConfig(exec, configFile, Utils.getSystemPathVariable()));
+    ProcessBuilder pb = new ProcessBuilder(command);
     pb.redirectErrorStream(true);
     if (env != null) {
       Map<String, String> environment = pb.environment();
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.jfr;
+
+import io.fabric8.kubernetes.client.http.HttpRequest;
+
+import java.lang.reflect.Type;
+
+/**
+ * Emits Java Flight Recorder events for the client's hot paths.
+ * <p>
+ * The begin methods return an opaque event, or null when JFR is not present or the event is not enabled in the
+ * running recording - in which case the matching end method does nothing. When an event is not enabled the cost is
+ * a single enabled check per call, and no event is allocated.
+ * <p>
+ * The event types themselves are only referenced once JFR has been found, so the client still works on a runtime
+ * without the jdk.jfr module.
+ */
+public final class ClientEvents {
+
+  static final boolean AVAILABLE = isJfrAvailable();
+
+  private ClientEvents() {
+  }
+
+  private static boolean isJfrAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, ClientEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  public static Object beginHttpRequest() {
+    return AVAILABLE ? JfrEvents.beginHttpRequest() : null;
+  }
+
+  /**
+   * @param statusCode the response code, or -1 if there was no response
+   * @param bytes the number of response body bytes consumed
+   * @param retries the number of retries after the first attempt
+   */
+  public static void endHttpRequest(Object event, HttpRequest request, int statusCode, long bytes, int retries) {
+    if (event != null) {
+      JfrEvents.endHttpRequest(event, request, statusCode, bytes, retries);
+    }
+  }
+
+  /**
+   * @param resource the plural resource name
+   * @param namespace the namespace, or null if not namespaced or across all namespaces
+   * @param resourceVersion the resource version the watch starts from, may be null
+   * @param reconnect true if this replaces a previous request of the same watch
+   */
+  public static void watchConnecting(String resource, String namespace, String resourceVersion, boolean reconnect) {
+    if (AVAILABLE) {
+      JfrEvents.watchConnecting(resource, namespace, resourceVersion, reconnect);
+    }
+  }
+
+  /**
+   * @param reason the failure message, or null if the watch was closed normally
+   */
+  public static void watchClosed(String resource, String namespace, String reason) {
+    if (AVAILABLE) {
+      JfrEvents.watchClosed(resource, namespace, reason);
+    }
+  }
+
+  public static Object beginInformerList() {
+    return AVAILABLE ? JfrEvents.beginInformerList() : null;
+  }
+
+  /**
+   * @param items the number of items listed, or -1 if the list failed
+   * @param relist true if this is not the initial list of the informer
+   */
+  public static void endInformerList(Object event, String resource, String namespace, int items, boolean relist) {
+    if (event != null) {
+      JfrEvents.endInformerList(event, resource, namespace, items, relist);
+    }
+  }
+
+  public static Object beginHandlerDispatch() {
+    return AVAILABLE ? JfrEvents.beginHandlerDispatch() : null;
+  }
+
+  /**
+   * @param informer the informer description
+   * @param notification the kind of notification that was handled
+   * @param queuedNanos how long the notification waited in the listener queue
+   */
+  public static void endHandlerDispatch(Object event, String informer, String notification, long queuedNanos) {
+    if (event != null) {
+      JfrEvents.endHandlerDispatch(event, informer, notification, queuedNanos);
+    }
+  }
+
+  public static Object beginDeserialization() {
+    return AVAILABLE ? JfrEvents.beginDeserialization() : null;
+  }
+
+  public static void endDeserialization(Object event, Type type) {
+    if (event != null) {
+      JfrEvents.endDeserialization(event, type);
+    }
+  }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The invocation of an informer event handler
+ */
+@Name("io.fabric8.kubernetes.client.HandlerDispatch")
+@Label("Handler Dispatch")
+@Category({ "Kubernetes Client", "Informer" })
+@Description("The invocation of an informer event handler")
+public final class HandlerDispatchEvent extends Event {
+
+  @Label("Informer")
+  String informer;
+
+  @Label("Notification")
+  String notification;
+
+  @Label("Queued")
+  @Description("How long the notification waited before the handler was invoked")
+  @Timespan
+  long queued;
+
+}
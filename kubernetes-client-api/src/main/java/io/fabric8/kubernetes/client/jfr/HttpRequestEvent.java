@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An HTTP request, including retries, until its response body has been consumed
+ */
+@Name("io.fabric8.kubernetes.client.HttpRequest")
+@Label("HTTP Request")
+@Category({ "Kubernetes Client", "HTTP" })
+@Description("An HTTP request, including retries, until its response body has been consumed")
+public final class HttpRequestEvent extends Event {
+
+  @Label("Method")
+  String method;
+
+  @Label("URI")
+  String uri;
+
+  @Label("Status Code")
+  @Description("The response code, or -1 if there was no response")
+  int statusCode;
+
+  @Label("Response Bytes")
+  @DataAmount
+  long responseBytes;
+
+  @Label("Retries")
+  int retries;
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An informer listing the current state of its resources
+ */
+@Name("io.fabric8.kubernetes.client.InformerList")
+@Label("Informer List")
+@Category({ "Kubernetes Client", "Informer" })
+@Description("An informer listing the current state of its resources")
+public final class InformerListEvent extends Event {
+
+  @Label("Resource")
+  String resource;
+
+  @Label("Namespace")
+  String namespace;
+
+  @Label("Items")
+  @Description("The number of items listed, or -1 if the list failed")
+  int items;
+
+  @Label("Relist")
+  boolean relist;
+
+}
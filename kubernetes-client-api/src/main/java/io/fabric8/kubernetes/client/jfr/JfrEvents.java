@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.jfr;
+
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+import java.lang.reflect.Type;
+
+/**
+ * The only class, besides the events, that links against jdk.jfr - it is not loaded unless
+ * {@link ClientEvents#AVAILABLE}
+ */
+final class JfrEvents {
+
+  // checked before creating an event, so that nothing is allocated while no recording enables it
+  private static final EventType HTTP_REQUEST = EventType.getEventType(HttpRequestEvent.class);
+  private static final EventType WATCH_CONNECT = EventType.getEventType(WatchConnectEvent.class);
+  private static final EventType WATCH_CLOSE = EventType.getEventType(WatchCloseEvent.class);
+  private static final EventType INFORMER_LIST = EventType.getEventType(InformerListEvent.class);
+  private static final EventType HANDLER_DISPATCH = EventType.getEventType(HandlerDispatchEvent.class);
+  private static final EventType DESERIALIZATION = EventType.getEventType(DeserializationEvent.class);
+
+  private JfrEvents() {
+  }
+
+  private static Object begin(Event event) {
+    event.begin();
+    return event;
+  }
+
+  static Object beginHttpRequest() {
+    return HTTP_REQUEST.isEnabled() ? begin(new HttpRequestEvent()) : null;
+  }
+
+  static void endHttpRequest(Object o, HttpRequest request, int statusCode, long bytes, int retries) {
+    HttpRequestEvent event = (HttpRequestEvent) o;
+    event.end();
+    if (event.shouldCommit()) {
+      event.method = request.method();
+      event.uri = String.valueOf(request.uri());
+      event.statusCode = statusCode;
+      event.responseBytes = bytes;
+      event.retries = retries;
+      event.commit();
+    }
+  }
+
+  static void watchConnecting(String resource, String namespace, String resourceVersion, boolean reconnect) {
+    if (!WATCH_CONNECT.isEnabled()) {
+      return;
+    }
+    WatchConnectEvent event = new WatchConnectEvent();
+    if (event.shouldCommit()) {
+      event.resource = resource;
+      event.namespace = namespace;
+      event.resourceVersion = resourceVersion;
+      event.reconnect = reconnect;
+      event.commit();
+    }
+  }
+
+  static void watchClosed(String resource, String namespace, String reason) {
+    if (!WATCH_CLOSE.isEnabled()) {
+      return;
+    }
+    WatchCloseEvent event = new WatchCloseEvent();
+    if (event.shouldCommit()) {
+      event.resource = resource;
+      event.namespace = namespace;
+      event.reason = reason;
+      event.commit();
+    }
+  }
+
+  static Object beginInformerList() {
+    return INFORMER_LIST.isEnabled() ? begin(new InformerListEvent()) : null;
+  }
+
+  static void endInformerList(Object o, String resource, String namespace, int items, boolean relist) {
+    InformerListEvent event = (InformerListEvent) o;
+    event.end();
+    if (event.shouldCommit()) {
+      event.resource = resource;
+      event.namespace = namespace;
+      event.items = items;
+      event.relist = relist;
+      event.commit();
+    }
+  }
+
+  static Object beginHandlerDispatch() {
+    return HANDLER_DISPATCH.isEnabled() ? begin(new HandlerDispatchEvent()) : null;
+  }
+
+  static void endHandlerDispatch(Object o, String informer, String notification, long queuedNanos) {
+    HandlerDispatchEvent event = (HandlerDispatchEvent) o;
+    event.end();
+    if (event.shouldCommit()) {
+      event.informer = informer;
+      event.notification = notification;
+      event.queued = queuedNanos;
+      event.commit();
+    }
+  }
+
+  static Object beginDeserialization() {
+    return DESERIALIZATION.isEnabled() ? begin(new DeserializationEvent()) : null;
+  }
+
+  static void endDeserialization(Object o, Type type) {
+    DeserializationEvent event = (DeserializationEvent) o;
+    event.end();
+    if (event.shouldCommit()) {
+      event.type = type.getTypeName();
+      event.commit();
+    }
+  }
+
+}
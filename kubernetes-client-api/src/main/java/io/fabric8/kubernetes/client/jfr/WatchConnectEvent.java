@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A watch request being started
+ */
+@Name("io.fabric8.kubernetes.client.WatchConnect")
+@Label("Watch Connect")
+@Category({ "Kubernetes Client", "Watch" })
+@Description("A watch request being started")
+public final class WatchConnectEvent extends Event {
+
+  @Label("Resource")
+  String resource;
+
+  @Label("Namespace")
+  String namespace;
+
+  @Label("Resource Version")
+  String resourceVersion;
+
+  @Label("Reconnect")
+  boolean reconnect;
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics;
+
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.Interceptor.RequestTags;
+
+/**
+ * Receives measurements of the client's activity.
+ * <p>
+ * Register an implementation by tagging the client builder, for example
+ * {@code new KubernetesClientBuilder().withHttpClientBuilderConsumer(b -> b.tag(new SimpleClientMetrics()))}.
+ * <p>
+ * Methods are called inline from http client and informer threads, so implementations should be fast and non-blocking.
+ */
+public interface ClientMetrics {
+
+  ClientMetrics NOOP = new ClientMetrics() {
+  };
+
+  /**
+   * Get the metrics registered with the client
+   *
+   * @param client the http client
+   * @return the registered metrics, or {@link #NOOP}
+   */
+  static ClientMetrics from(HttpClient client) {
+    if (client instanceof RequestTags) {
+      ClientMetrics metrics = ((RequestTags) client).getTag(ClientMetrics.class);
+      if (metrics != null) {
+        return metrics;
+      }
+    }
+    return NOOP;
+  }
+
+  /**
+   * Called when a request completes, either when the response body has been consumed, or on failure.
+   */
+  default void requestCompleted(RequestMetric metric) {
+  }
+
+  /**
+   * Called each time a watch reconnects
+   *
+   * @param resource the plural resource name
+   * @param namespace the namespace, or null if not namespaced or across all namespaces
+   */
+  default void watchReconnected(String resource, String namespace) {
+  }
+
+  /**
+   * Called each time an informer lists again after its initial list
+   *
+   * @param resource the plural resource name
+   * @param namespace the namespace, or null if not namespaced or across all namespaces
+   */
+  default void informerRelisted(String resource, String namespace) {
+  }
+
+}
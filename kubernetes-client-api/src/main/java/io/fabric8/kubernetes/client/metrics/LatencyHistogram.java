@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations with fixed, roughly exponential, bucket bounds.
+ */
+public final class LatencyHistogram {
+
+  private static final long[] BOUNDS_MILLIS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000 };
+
+  private final LongAdder[] buckets = new LongAdder[BOUNDS_MILLIS.length + 1];
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sumNanos = new LongAdder();
+
+  public LatencyHistogram() {
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  public void record(long duration, TimeUnit unit) {
+    long nanos = unit.toNanos(duration);
+    long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+    int bucket = 0;
+    while (bucket < BOUNDS_MILLIS.length && millis > BOUNDS_MILLIS[bucket]) {
+      bucket++;
+    }
+    buckets[bucket].increment();
+    count.increment();
+    sumNanos.add(nanos);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getSum(TimeUnit unit) {
+    return unit.convert(sumNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return the inclusive upper bounds in milliseconds of every bucket but the last, which is unbounded
+   */
+  public static long[] getBucketBoundsMillis() {
+    return BOUNDS_MILLIS.clone();
+  }
+
+  /**
+   * @return the (non-cumulative) number of durations recorded in each bucket
+   */
+  public long[] getBucketCounts() {
+    long[] result = new long[buckets.length];
+    for (int i = 0; i < buckets.length; i++) {
+      result[i] = buckets[i].sum();
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics;
+
+import io.fabric8.kubernetes.client.http.HttpRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The measurements of a single completed request.
+ */
+public final class RequestMetric {
+
+  /**
+   * The status code of a request that failed without a response
+   */
+  public static final int NO_RESPONSE = -1;
+
+  public static final String WATCH = "WATCH";
+
+  private final String verb;
+  private final String resource;
+  private final String namespace;
+  private final int statusCode;
+  private final long durationNanos;
+  private final long responseBytes;
+  private final int retries;
+
+  public RequestMetric(String verb, String resource, String namespace, int statusCode, long durationNanos,
+      long responseBytes, int retries) {
+    this.verb = verb;
+    this.resource = resource;
+    this.namespace = namespace;
+    this.statusCode = statusCode;
+    this.durationNanos = durationNanos;
+    this.responseBytes = responseBytes;
+    this.retries = retries;
+  }
+
+  /**
+   * Create the metric for a request, determining the verb, resource and namespace from the request
+   */
+  public static RequestMetric of(HttpRequest request, int statusCode, long durationNanos, long responseBytes,
+      int retries) {
+    String query = request.uri().getRawQuery();
+    String verb = query != null && (query.startsWith("watch=true") || query.contains("&watch=true")) ? WATCH
+        : request.method();
+    String[] segments = request.uri().getPath().split("/");
+    // /api/{version}/... or /apis/{group}/{version}/...
+    int index = segments.length > 1 && "apis".equals(segments[1]) ? 4 : 3;
+    String namespace = null;
+    if (index + 2 < segments.length && "namespaces".equals(segments[index])) {
+      namespace = segments[index + 1];
+      index += 2;
+    }
+    String resource = index < segments.length ? segments[index] : null;
+    return new RequestMetric(verb, resource, namespace, statusCode, durationNanos, responseBytes, retries);
+  }
+
+  /**
+   * @return the http method, or {@link #WATCH} for watch requests
+   */
+  public String getVerb() {
+    return verb;
+  }
+
+  /**
+   * @return the plural resource name, or null if the request was not for a resource
+   */
+  public String getResource() {
+    return resource;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  /**
+   * @return the status code of the final attempt, or {@link #NO_RESPONSE}
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  public long getDuration(TimeUnit unit) {
+    return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public long getResponseBytes() {
+    return responseBytes;
+  }
+
+  /**
+   * @return the number of attempts after the first one
+   */
+  public int getRetries() {
+    return retries;
+  }
+
+}
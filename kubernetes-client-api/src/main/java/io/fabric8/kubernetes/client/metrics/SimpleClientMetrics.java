@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An in-memory {@link ClientMetrics} that does not depend on a metrics library.
+ * <p>
+ * Request statistics are kept per verb, resource, namespace and status code.
+ */
+public class SimpleClientMetrics implements ClientMetrics {
+
+  public static final class RequestStatistics {
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    public LatencyHistogram getLatency() {
+      return latency;
+    }
+
+    public long getResponseBytes() {
+      return responseBytes.sum();
+    }
+
+    public long getRetries() {
+      return retries.sum();
+    }
+  }
+
+  private final Map<List<Object>, RequestStatistics> requests = new ConcurrentHashMap<>();
+  private final Map<List<String>, LongAdder> watchReconnects = new ConcurrentHashMap<>();
+  private final Map<List<String>, LongAdder> informerRelists = new ConcurrentHashMap<>();
+
+  @Override
+  public void requestCompleted(RequestMetric metric) {
+    RequestStatistics statistics = requests.computeIfAbsent(
+        key(metric.getVerb(), metric.getResource(), metric.getNamespace(), metric.getStatusCode()),
+        k -> new RequestStatistics());
+    statistics.latency.record(metric.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    statistics.responseBytes.add(metric.getResponseBytes());
+    statistics.retries.add(metric.getRetries());
+  }
+
+  @Override
+  public void watchReconnected(String resource, String namespace) {
+    watchReconnects.computeIfAbsent(Arrays.asList(resource, namespace), k -> new LongAdder()).increment();
+  }
+
+  @Override
+  public void informerRelisted(String resource, String namespace) {
+    informerRelists.computeIfAbsent(Arrays.asList(resource, namespace), k -> new LongAdder()).increment();
+  }
+
+  /**
+   * @return the statistics, or null if no matching request has completed
+   */
+  public RequestStatistics getRequestStatistics(String verb, String resource, String namespace, int statusCode) {
+    return requests.get(key(verb, resource, namespace, statusCode));
+  }
+
+  /**
+   * @return the statistics keyed by [verb, resource, namespace, status code]
+   */
+  public Map<List<Object>, RequestStatistics> getRequestStatistics() {
+    return Collections.unmodifiableMap(requests);
+  }
+
+  public long getWatchReconnects(String resource, String namespace) {
+    LongAdder count = watchReconnects.get(Arrays.asList(resource, namespace));
+    return count == null ? 0 : count.sum();
+  }
+
+  public long getInformerRelists(String resource, String namespace) {
+    LongAdder count = informerRelists.get(Arrays.asList(resource, namespace));
+    return count == null ? 0 : count.sum();
+  }
+
+  private static List<Object> key(String verb, String resource, String namespace, int statusCode) {
+    return Arrays.asList(verb, resource, namespace, statusCode);
+  }
+
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes the value at a field path, such as metadata.labels, of a model object using the same
+ * accessors as serialization - without serializing or deserializing the rest of the object.
+ * <br>
+ * The accessors are resolved once for each class encountered at each step of the path.
+ * <br>
+ * Values are exchanged in their json form - maps, lists and scalars - so that they are not shared with the
+ * source or target object.
+ */
+public class FieldPath {
+
+  private interface Property {
+
+    Object get(Object target);
+
+    boolean set(Object target, Object value);
+
+    /**
+     * @return a new empty value for an intermediate step, or null if one cannot be created
+     */
+    Object newInstance();
+
+    Object fromJson(Object json);
+
+  }
+
+  private static final Property MISSING = new Property() {
+
+    @Override
+    public Object get(Object target) {
+      return null;
+    }
+
+    @Override
+    public boolean set(Object target, Object value) {
+      return false;
+    }
+
+    @Override
+    public Object newInstance() {
+      return null;
+    }
+
+    @Override
+    public Object fromJson(Object json) {
+      return json;
+    }
+
+  };
+
+  private final ObjectMapper mapper;
+  private final String[] path;
+  private final List<Map<Class<?>, Property>> properties = new ArrayList<>();
+
+  FieldPath(ObjectMapper mapper, String... path) {
+    if (path.length == 0) {
+      throw new IllegalArgumentException("The path must not be empty");
+    }
+    this.mapper = mapper;
+    this.path = path;
+    for (int i = 0; i < path.length; i++) {
+      properties.add(new ConcurrentHashMap<>());
+    }
+  }
+
+  public String[] getPath() {
+    return path.clone();
+  }
+
+  /**
+   * Get the json form of the value at this path.
+   *
+   * @param root the object to read from
+   * @return the value, or null if it or any intermediate value is not present
+   */
+  public Object get(Object root) {
+    Object current = root;
+    for (int i = 0; i < path.length && current != null; i++) {
+      current = getProperty(i, current.getClass()).get(current);
+    }
+    return toJson(current);
+  }
+
+  /**
+   * Set the value at this path from its json form, creating intermediate objects as needed.
+   *
+   * @param root the object to modify
+   * @param json the json form of the value
+   * @return false if the value could not be set directly, for example if an intermediate type cannot be
+   *         instantiated
+   */
+  public boolean set(Object root, Object json) {
+    Object current = root;
+    for (int i = 0; i < path.length - 1; i++) {
+      Property property = getProperty(i, current.getClass());
+      Object next = property.get(current);
+      if (next == null) {
+        next = property.newInstance();
+        if (next == null || !property.set(current, next)) {
+          return false;
+        }
+      }
+      current = next;
+    }
+    Property property = getProperty(path.length - 1, current.getClass());
+    return property.set(current, property.fromJson(json));
+  }
+
+  @Override
+  public String toString() {
+    return String.join(".", path);
+  }
+
+  private Property getProperty(int index, Class<?> type) {
+    return properties.get(index).computeIfAbsent(type, t -> resolve(path[index], t));
+  }
+
+  private Object toJson(Object value) {
+    if (value == null || isScalar(value)) {
+      return value;
+    }
+    return mapper.convertValue(value, Object.class);
+  }
+
+  private static boolean isScalar(Object value) {
+    return value instanceof String || value instanceof Number || value instanceof Boolean;
+  }
+
+  private static boolean isEmpty(Object value) {
+    return (value instanceof Collection && ((Collection<?>) value).isEmpty())
+        || (value instanceof Map && ((Map<?, ?>) value).isEmpty());
+  }
+
+  private Property resolve(String name, Class<?> type) {
+    if (Map.class.isAssignableFrom(type)) {
+      return new MapProperty(name);
+    }
+    JavaType javaType = mapper.constructType(type);
+    BeanDescription serialization = mapper.getSerializationConfig().introspect(javaType);
+    BeanDescription deserialization = mapper.getDeserializationConfig().introspect(javaType);
+    BeanPropertyDefinition getter = find(serialization, name);
+    BeanPropertyDefinition setter = find(deserialization, name);
+    if (getter != null || setter != null) {
+      return new BeanProperty(getter, setter);
+    }
+    AnnotatedMember anyGetter = serialization.findAnyGetter();
+    AnnotatedMember anySetter = deserialization.findAnySetterAccessor();
+    if (anyGetter != null || anySetter != null) {
+      return new AnyProperty(name, anyGetter, anySetter);
+    }
+    return MISSING;
+  }
+
+  private static BeanPropertyDefinition find(BeanDescription description, String name) {
+    return description.findProperties().stream().filter(p -> p.getName().equals(name)).findFirst().orElse(null);
+  }
+
+  private static Object newInstance(Class<?> type) {
+    if (Map.class.isAssignableFrom(type) && (type.isInterface() || Modifier.isAbstract(type.getModifiers()))) {
+      return new LinkedHashMap<>();
+    }
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+    try {
+      return ClassUtil.createInstance(type, true);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private final class MapProperty implements Property {
+
+    private final String name;
+
+    MapProperty(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Object get(Object target) {
+      return ((Map<?, ?>) target).get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean set(Object target, Object value) {
+      ((Map<String, Object>) target).put(name, value);
+      return true;
+    }
+
+    @Override
+    public Object newInstance() {
+      return new LinkedHashMap<>();
+    }
+
+    @Override
+    public Object fromJson(Object json) {
+      return toJson(json);
+    }
+
+  }
+
+  private final class BeanProperty implements Property {
+
+    private final AnnotatedMember accessor;
+    private final AnnotatedMember mutator;
+    private final JavaType type;
+    private final boolean omitEmpty;
+
+    BeanProperty(BeanPropertyDefinition getter, BeanPropertyDefinition setter) {
+      this.accessor = getter == null ? null : getter.getAccessor();
+      this.mutator = setter == null ? null : setter.getMutator();
+      this.type = setter != null ? setter.getPrimaryType() : getter.getPrimaryType();
+      this.omitEmpty = getter != null && getter.findInclusion() != null
+          && getter.findInclusion().getValueInclusion() == JsonInclude.Include.NON_EMPTY;
+      for (AnnotatedMember member : Arrays.asList(accessor, mutator)) {
+        if (member != null) {
+          member.fixAccess(true);
+        }
+      }
+    }
+
+    @Override
+    public Object get(Object target) {
+      if (accessor == null) {
+        return null;
+      }
+      Object value = accessor.getValue(target);
+      if (omitEmpty && isEmpty(value)) {
+        return null;
+      }
+      return value;
+    }
+
+    @Override
+    public boolean set(Object target, Object value) {
+      if (mutator == null) {
+        return false;
+      }
+      if (mutator instanceof AnnotatedMethod && ((AnnotatedMethod) mutator).getParameterCount() != 1) {
+        return false;
+      }
+      mutator.setValue(target, value);
+      return true;
+    }
+
+    @Override
+    public Object newInstance() {
+      return FieldPath.newInstance(type.getRawClass());
+    }
+
+    @Override
+    public Object fromJson(Object json) {
+      if (json == null || (isScalar(json) && type.getRawClass().isInstance(json))) {
+        return json;
+      }
+      return mapper.convertValue(json, type);
+    }
+
+  }
+
+  private final class AnyProperty implements Property {
+
+    private final String name;
+    private final AnnotatedMember anyGetter;
+    private final AnnotatedMember anySetter;
+
+    AnyProperty(String name, AnnotatedMember anyGetter, AnnotatedMember anySetter) {
+      this.name = name;
+      this.anyGetter = anyGetter;
+      this.anySetter = anySetter;
+      for (AnnotatedMember member : Arrays.asList(anyGetter, anySetter)) {
+        if (member != null) {
+          member.fixAccess(true);
+        }
+      }
+    }
+
+    @Override
+    public Object get(Object target) {
+      if (anyGetter == null) {
+        return null;
+      }
+      Object values = anyGetter.getValue(target);
+      return values instanceof Map ? ((Map<?, ?>) values).get(name) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean set(Object target, Object value) {
+      if (anySetter instanceof AnnotatedMethod) {
+        try {
+          ((AnnotatedMethod) anySetter).callOnWith(target, name, value);
+        } catch (Exception e) {
+          return false;
+        }
+        return true;
+      }
+      if (anySetter != null) {
+        Object values = anySetter.getValue(target);
+        if (values instanceof Map) {
+          ((Map<String, Object>) values).put(name, value);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public Object newInstance() {
+      return new LinkedHashMap<>();
+    }
+
+    @Override
+    public Object fromJson(Object json) {
+      return toJson(json);
+    }
+
+  }
+
+}
@@ -210,6 +210,10 @@ public class HttpClientUtils {
       builder.preferHttp11();
     }
 
+    if (config.isDisableCompression()) {
+      builder.disableCompression();
+    }
+
     try {
       configureProxy(config, builder);
 
@@ -38,6 +38,7 @@ import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.jfr.ClientEvents;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer;
 import io.fabric8.kubernetes.model.jackson.GoCompatibilityModule;
 import io.fabric8.kubernetes.model.jackson.UnmatchedFieldTypeModule;
@@ -62,6 +63,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.function.Consumer;
 
 public class KubernetesSerialization {
 
@@ -190,6 +192,21 @@ public class KubernetesSerialization {
     }
   }
 
+  /**
+   * Returns a UTF-8 encoded JSON representation of the given object.
+   *
+   * @param object the object to serialize.
+   * @param <T> the type of the object being serialized.
+   * @return the bytes of the JSON representation of the provided object.
+   */
+  public <T> byte[] asJsonBytes(T object) {
+    try {
+      return mapper.writeValueAsBytes(object);
+    } catch (JsonProcessingException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
   /**
    * Returns a YAML representation of the given object.
    *
@@ -257,7 +274,9 @@ public class KubernetesSerialization {
   }
 
   public <T> T unmarshal(InputStream is, TypeReference<T> type) {
-    try (BufferedInputStream bis = new BufferedInputStream(is)) {
+    final Object event = ClientEvents.beginDeserialization();
+    // avoid an additional buffer if the stream is already in memory
+    try (InputStream bis = is.markSupported() ? is : new BufferedInputStream(is)) {
       bis.mark(-1);
       int intch;
       do {
@@ -274,6 +293,8 @@ public class KubernetesSerialization {
       return result;
     } catch (IOException e) {
       throw KubernetesClientException.launderThrowable(e);
+    } finally {
+      ClientEvents.endDeserialization(event, type.getType());
     }
   }
 
@@ -281,7 +302,7 @@ public class KubernetesSerialization {
    * If multiple docs exist, only non-null resources will be kept. Results spanning multiple docs
    * will be returned as a List of KubernetesResource
    */
-  private <T> T parseYaml(BufferedInputStream bis, TypeReference<T> type) {
+  private <T> T parseYaml(InputStream bis, TypeReference<T> type) {
     T result = null;
     List<KubernetesResource> listResult = null;
     final Load yaml = new Load(LoadSettings.builder().build());
@@ -382,6 +403,35 @@ public class KubernetesSerialization {
     }
   }
 
+  /**
+   * Create a parser that incrementally binds a json list response, passing each item to the consumer as
+   * soon as it has been parsed.
+   *
+   * @param listType the type of the list
+   * @param itemType the type of the items
+   * @param itemConsumer the consumer of the items
+   * @return the {@link StreamingListParser}
+   */
+  public <L, T> StreamingListParser<L, T> createStreamingListParser(Type listType, Type itemType,
+      Consumer<T> itemConsumer) {
+    try {
+      return new StreamingListParser<>(mapper, mapper.constructType(listType), mapper.constructType(itemType),
+          itemConsumer);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(e);
+    }
+  }
+
+  /**
+   * Create a {@link FieldPath} for reading and writing the value at the given path of model objects.
+   *
+   * @param path the field names, for example "metadata", "labels"
+   * @return the {@link FieldPath}
+   */
+  public FieldPath createFieldPath(String... path) {
+    return new FieldPath(mapper, path);
+  }
+
   public <T> T convertValue(Object value, Class<T> type) {
     return mapper.convertValue(value, type);
   }
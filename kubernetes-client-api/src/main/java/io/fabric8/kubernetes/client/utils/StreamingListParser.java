@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally parses a json list response, such as a PodList, as bytes arrive.
+ * <br>
+ * Each element of the top-level items array is bound and passed to the item consumer as soon as
+ * it is complete, so at most one item is buffered at a time. All other fields are retained and bound to the list
+ * type when the input ends - the resulting list will not contain the items.
+ * <br>
+ * Not thread-safe, input is expected to be fed serially.
+ *
+ * @param <L> the list type
+ * @param <T> the item type
+ */
+public class StreamingListParser<L, T> {
+
+  private static final String ITEMS = "items";
+
+  private final ObjectMapper mapper;
+  private final JavaType listType;
+  private final ObjectReader itemReader;
+  private final Consumer<T> itemConsumer;
+  private final JsonParser parser;
+  private final ByteBufferFeeder feeder;
+  private final TokenBuffer envelope;
+  private TokenBuffer item;
+  private int depth;
+  private boolean itemsNext;
+  private boolean inItems;
+
+  StreamingListParser(ObjectMapper mapper, JavaType listType, JavaType itemType, Consumer<T> itemConsumer)
+      throws IOException {
+    this.mapper = mapper;
+    this.listType = listType;
+    this.itemReader = mapper.readerFor(itemType);
+    this.itemConsumer = itemConsumer;
+    this.parser = mapper.getFactory().createNonBlockingByteBufferParser();
+    this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    this.envelope = new TokenBuffer(parser);
+  }
+
+  /**
+   * Feed the next chunk of the response. The buffer is fully consumed before this method returns.
+   *
+   * @param buffer the next bytes
+   * @throws IOException if the json is not valid
+   */
+  public void feed(ByteBuffer buffer) throws IOException {
+    feeder.feedInput(buffer);
+    processAvailable();
+  }
+
+  /**
+   * Signal the end of the input.
+   *
+   * @return the list bound from all fields other than the items
+   * @throws IOException if the json is not valid or is incomplete
+   */
+  public L end() throws IOException {
+    feeder.endOfInput();
+    processAvailable();
+    if (depth != 0) {
+      throw new IOException("Unexpected end of list content");
+    }
+    try (JsonParser envelopeParser = envelope.asParser(mapper)) {
+      return mapper.readerFor(listType).readValue(envelopeParser);
+    }
+  }
+
+  private void processAvailable() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      if (token.isStructStart()) {
+        depth++;
+      } else if (token.isStructEnd()) {
+        depth--;
+      }
+      if (inItems) {
+        processItemToken(token);
+      } else if (itemsNext) {
+        itemsNext = false;
+        inItems = token == JsonToken.START_ARRAY;
+      } else if (depth == 1 && token == JsonToken.FIELD_NAME && ITEMS.equals(parser.currentName())) {
+        itemsNext = true;
+      } else {
+        envelope.copyCurrentEvent(parser);
+      }
+    }
+  }
+
+  private void processItemToken(JsonToken token) throws IOException {
+    if (item == null) {
+      if (token == JsonToken.END_ARRAY) {
+        // depth has already been decremented for the end of the items array
+        inItems = false;
+        return;
+      }
+      if (token == JsonToken.VALUE_NULL) {
+        return;
+      }
+      item = new TokenBuffer(parser);
+    }
+    item.copyCurrentEvent(parser);
+    // the item is complete once we're back to the depth of the items array
+    if (depth == 2) {
+      try (JsonParser itemParser = item.asParser(mapper)) {
+        item = null;
+        itemConsumer.accept(itemReader.readValue(itemParser));
+      }
+    }
+  }
+
+}
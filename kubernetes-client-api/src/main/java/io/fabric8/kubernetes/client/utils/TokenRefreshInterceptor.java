@@ -21,6 +21,7 @@ import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.internal.KubeConfigUtils;
 
 import java.net.HttpURLConnection;
 import java.time.Instant;
@@ -38,6 +39,8 @@ public class TokenRefreshInterceptor implements Interceptor {
 
   public static final String NAME = "TOKEN";
 
+  private static final String BEARER_PREFIX = "Bearer ";
+
   protected final Config config;
   private final Function<Config, CompletableFuture<String>> remoteRefresh;
 
@@ -105,9 +108,19 @@ public class TokenRefreshInterceptor implements Interceptor {
     if (shouldFail(response)) {
       return CompletableFuture.completedFuture(false);
     }
+    invalidateRejectedToken(response);
     return refreshToken(headerBuilder);
   }
 
+  private static void invalidateRejectedToken(HttpResponse<?> response) {
+    // the refresh must not be satisfied by a cached exec credential that the server just rejected
+    HttpRequest request = response.request();
+    String authorization = request != null ? request.header(AUTHORIZATION) : null;
+    if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+      KubeConfigUtils.invalidateExecCredential(authorization.substring(BEARER_PREFIX.length()));
+    }
+  }
+
   protected boolean shouldFail(HttpResponse<?> response) {
     return useBasicAuth() || response.code() != HttpURLConnection.HTTP_UNAUTHORIZED;
   }
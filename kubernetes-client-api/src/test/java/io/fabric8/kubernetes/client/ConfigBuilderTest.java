@@ -39,7 +39,8 @@ class ConfigBuilderTest {
         .withScaleTimeout(133710)
         .withLoggingInterval(133711)
         .withHttp2Disable(true)
-        .withOnlyHttpWatches(true);
+        .withOnlyHttpWatches(true)
+        .withDisableCompression(true);
     assertThat(configBuilder.build())
         .hasFieldOrPropertyWithValue("autoConfigure", Boolean.FALSE)
         .hasFieldOrPropertyWithValue("trustCerts", Boolean.TRUE)
@@ -56,7 +57,8 @@ class ConfigBuilderTest {
         .hasFieldOrPropertyWithValue("scaleTimeout", 133710L)
         .hasFieldOrPropertyWithValue("loggingInterval", 133711)
         .hasFieldOrPropertyWithValue("http2Disable", Boolean.TRUE)
-        .hasFieldOrPropertyWithValue("onlyHttpWatches", Boolean.TRUE);
+        .hasFieldOrPropertyWithValue("onlyHttpWatches", Boolean.TRUE)
+        .hasFieldOrPropertyWithValue("disableCompression", Boolean.TRUE);
   }
 
   @Test
@@ -77,7 +79,8 @@ class ConfigBuilderTest {
         .withScaleTimeout(Long.valueOf(133710))
         .withLoggingInterval(Integer.valueOf(133711))
         .withHttp2Disable(Boolean.TRUE)
-        .withOnlyHttpWatches(Boolean.TRUE);
+        .withOnlyHttpWatches(Boolean.TRUE)
+        .withDisableCompression(Boolean.TRUE);
     assertThat(configBuilder.build())
         .hasFieldOrPropertyWithValue("autoConfigure", false)
         .hasFieldOrPropertyWithValue("trustCerts", true)
@@ -94,7 +97,8 @@ class ConfigBuilderTest {
         .hasFieldOrPropertyWithValue("scaleTimeout", 133710L)
         .hasFieldOrPropertyWithValue("loggingInterval", 133711)
         .hasFieldOrPropertyWithValue("http2Disable", true)
-        .hasFieldOrPropertyWithValue("onlyHttpWatches", true);
+        .hasFieldOrPropertyWithValue("onlyHttpWatches", true)
+        .hasFieldOrPropertyWithValue("disableCompression", true);
   }
 
 }
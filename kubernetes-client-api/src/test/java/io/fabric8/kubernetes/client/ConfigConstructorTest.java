@@ -95,7 +95,7 @@ class ConfigConstructorTest {
             null, null, null,
             null, null, null,
             null, null, null, null,
-            null, null, false)));
+            null, null, null, false)));
   }
 
   @Nested
@@ -199,7 +199,7 @@ class ConfigConstructorTest {
           null, null, null,
           null, null, null,
           null, null, null, null,
-          null, true, true);
+          null, null, true, true);
 
       // Then
       assertThat(config)
@@ -207,6 +207,7 @@ class ConfigConstructorTest {
           // Default values
           .hasFieldOrPropertyWithValue("apiVersion", "v1")
           .hasFieldOrPropertyWithValue("onlyHttpWatches", false)
+          .hasFieldOrPropertyWithValue("disableCompression", false)
           .hasFieldOrPropertyWithValue("http2Disable", false)
           .hasFieldOrPropertyWithValue("userAgent", "fabric8-kubernetes-client/" + Version.clientVersion())
           // Auto Configured values
@@ -266,7 +267,7 @@ class ConfigConstructorTest {
           null, null, null,
           null, null, null,
           null, null, null, null,
-          null, false, true);
+          null, null, false, true);
 
       assertThat(config)
           .isNotNull()
@@ -375,7 +376,7 @@ class ConfigConstructorTest {
               null, null, null,
               null, null, null,
               null, null, null, null,
-              null, true, true);
+              null, null, true, true);
 
           // Then
           assertThat(config)
@@ -483,7 +484,7 @@ class ConfigConstructorTest {
               null, null, null,
               null, null, null,
               null, null, null, null,
-              null, true, true);
+              null, null, true, true);
 
           // Then
           assertThat(config)
@@ -524,7 +525,7 @@ class ConfigConstructorTest {
               null, null, null,
               null, null, null,
               null, null, null, null,
-              null, true, true);
+              null, null, true, true);
 
           // Then
           assertThat(config)
@@ -574,7 +575,7 @@ class ConfigConstructorTest {
                   null, null, null,
                   null, null, null,
                   null, null, null, null,
-                  null, true, false));
+                  null, null, true, false));
         } finally {
           System.clearProperty("kubeconfig");
         }
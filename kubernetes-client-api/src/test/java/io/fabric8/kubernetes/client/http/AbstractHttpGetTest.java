@@ -16,6 +16,8 @@
 package io.fabric8.kubernetes.client.http;
 
 import io.fabric8.mockwebserver.DefaultMockServer;
+import io.fabric8.mockwebserver.MockWebServer;
+import io.fabric8.mockwebserver.http.MockResponse;
 import io.fabric8.mockwebserver.http.RecordedRequest;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -24,9 +26,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -114,4 +119,30 @@ public abstract class AbstractHttpGetTest {
           .satisfies(r -> assertThat(r.bodyString()).isEqualTo(value));
     }
   }
+
+  @Test
+  @DisplayName("Gzip encoded responses are requested and decoded")
+  public void gzipResponse() throws Exception {
+    // Given
+    final var value = "compressible ".repeat(8192);
+    final var compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+    final var gzipServer = new MockWebServer();
+    gzipServer.start();
+    try (HttpClient client = getHttpClientFactory().newBuilder().build()) {
+      gzipServer.enqueue(new MockResponse().setResponseCode(200)
+          .addHeader("Content-Encoding", "gzip")
+          .setBody(compressed.toByteArray()));
+      // When
+      final var request = client.newHttpRequestBuilder().uri(gzipServer.url("/gzip").uri()).build();
+      final var result = client.sendAsync(request, String.class).get(10, TimeUnit.SECONDS);
+      // Then
+      assertThat(result.body()).isEqualTo(value);
+      assertThat(gzipServer.takeRequest(10, TimeUnit.SECONDS).getHeader("Accept-Encoding")).isEqualTo("gzip");
+    } finally {
+      gzipServer.shutdown();
+    }
+  }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GzipDecoderTest {
+
+  private final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+  private final AtomicInteger requested = new AtomicInteger();
+  // the inflater is released once the body is done
+  private final AsyncBody asyncBody = new TestAsyncBody(new CompletableFuture<>()) {
+    @Override
+    public void consume() {
+      requested.incrementAndGet();
+    }
+  };
+  private final GzipDecoder decoder = new GzipDecoder((buffers, body) -> {
+    for (ByteBuffer buffer : buffers) {
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      decoded.write(bytes);
+    }
+  });
+
+  @Test
+  void passesThroughWhenNotEncoded() throws Exception {
+    decoder.start(new TestHttpResponse<AsyncBody>().withBody(asyncBody));
+
+    decoder.consume(Collections.singletonList(ByteBuffer.wrap("plain".getBytes(StandardCharsets.UTF_8))), asyncBody);
+
+    assertThat(decoded.toString(StandardCharsets.UTF_8)).isEqualTo("plain");
+  }
+
+  @Test
+  void decodesByteByByte() throws Exception {
+    final String value = "{\"kind\":\"ConfigMap\"}".repeat(1000);
+    start();
+
+    for (byte b : gzip(value)) {
+      decoder.consume(Collections.singletonList(ByteBuffer.wrap(new byte[] { b })), asyncBody);
+    }
+
+    assertThat(decoded.toString(StandardCharsets.UTF_8)).isEqualTo(value);
+    // the header and trailer bytes did not produce output, so more was requested on the delegate's behalf
+    assertThat(requested.get()).isPositive();
+  }
+
+  @Test
+  void decodesConcatenatedMembersWithOptionalHeaderFields() throws Exception {
+    byte[] first = gzip("first ");
+    byte[] second = gzip("second");
+    // add a file name to the second member header
+    ByteArrayOutputStream named = new ByteArrayOutputStream();
+    named.write(second, 0, 3);
+    named.write(second[3] | 8);
+    named.write(second, 4, 6);
+    named.write("name\0".getBytes(StandardCharsets.ISO_8859_1));
+    named.write(second, 10, second.length - 10);
+    start();
+
+    decoder.consume(List.of(ByteBuffer.wrap(first), ByteBuffer.wrap(named.toByteArray()),
+        ByteBuffer.wrap(new byte[] { 0, 0, 0 })), asyncBody);
+
+    assertThat(decoded.toString(StandardCharsets.UTF_8)).isEqualTo("first second");
+  }
+
+  @Test
+  void rejectsCorruptTrailer() throws Exception {
+    byte[] bytes = gzip("value");
+    bytes[bytes.length - 1]++;
+    start();
+
+    assertThatThrownBy(() -> decoder.consume(Collections.singletonList(ByteBuffer.wrap(bytes)), asyncBody))
+        .isInstanceOf(ZipException.class);
+  }
+
+  private void start() {
+    decoder.start(new TestHttpResponse<AsyncBody>().withHeader("Content-Encoding", "gzip").withBody(asyncBody));
+  }
+
+  private static byte[] gzip(String value) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(baos)) {
+      gzip.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+    return baos.toByteArray();
+  }
+
+}
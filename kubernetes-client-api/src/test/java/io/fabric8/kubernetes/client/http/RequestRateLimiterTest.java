@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.http;
+
+import io.fabric8.kubernetes.client.http.RequestRateLimiter.Lane;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestRateLimiterTest {
+
+  @Test
+  void writesAreGrantedBeforeQueuedReads() throws Exception {
+    RequestRateLimiter limiter = new RequestRateLimiter(2, 1);
+
+    assertThat(limiter.acquire(Lane.READ)).isDone();
+    CompletableFuture<Void> read = limiter.acquire(Lane.READ);
+    CompletableFuture<Void> write = limiter.acquire(Lane.WRITE);
+    assertThat(limiter.getQueued(Lane.READ)).isEqualTo(1);
+
+    write.get(5, TimeUnit.SECONDS);
+    assertThat(read).isNotDone();
+    read.get(5, TimeUnit.SECONDS);
+
+    assertThat(limiter.getAcquired(Lane.READ)).isEqualTo(2);
+    assertThat(limiter.getAcquired(Lane.WRITE)).isEqualTo(1);
+    assertThat(limiter.getWaitTime(Lane.WRITE, TimeUnit.MILLISECONDS)).isPositive();
+  }
+
+  @Test
+  void cancelledWaitersDoNotUsePermits() throws Exception {
+    RequestRateLimiter limiter = new RequestRateLimiter(2, 1);
+
+    limiter.acquire(Lane.WRITE);
+    CompletableFuture<Void> cancelled = limiter.acquire(Lane.WRITE);
+    CompletableFuture<Void> read = limiter.acquire(Lane.READ);
+    cancelled.cancel(false);
+
+    read.get(5, TimeUnit.SECONDS);
+    assertThat(limiter.getAcquired(Lane.WRITE)).isEqualTo(1);
+  }
+
+  @Test
+  void cancelledWaitersAreNoLongerQueued() {
+    RequestRateLimiter limiter = new RequestRateLimiter(0.001, 1);
+
+    limiter.acquire(Lane.READ);
+    CompletableFuture<Void> cancelled = limiter.acquire(Lane.READ);
+    assertThat(limiter.getQueued(Lane.READ)).isEqualTo(1);
+
+    cancelled.cancel(false);
+
+    assertThat(limiter.getQueued(Lane.READ)).isZero();
+  }
+
+  @Test
+  void leaseRequestsAreServedBeforeQueuedLists() throws Exception {
+    RequestRateLimiter limiter = new RequestRateLimiter(10, 1);
+    StandardHttpRequest.Builder builder = new StandardHttpRequest.Builder();
+    HttpRequest list = builder.uri("http://localhost/api/v1/pods").build();
+    HttpRequest lease = builder.uri("http://localhost/apis/coordination.k8s.io/v1/namespaces/ns/leases/leader").build();
+
+    assertThat(limiter.acquire(Lane.of(list))).isDone();
+    List<CompletableFuture<Void>> lists = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      lists.add(limiter.acquire(Lane.of(list)));
+    }
+    CompletableFuture<Void> leaseGet = limiter.acquire(Lane.of(lease));
+
+    leaseGet.get(5, TimeUnit.SECONDS);
+    assertThat(lists).noneMatch(CompletableFuture::isDone);
+  }
+
+  @Test
+  void lowerLanesGetAFairShare() throws Exception {
+    RequestRateLimiter limiter = new RequestRateLimiter(10, 1);
+
+    assertThat(limiter.acquire(Lane.READ)).isDone();
+    CompletableFuture<Void> watch = limiter.acquire(Lane.WATCH);
+    List<CompletableFuture<Void>> reads = new ArrayList<>();
+    for (int i = 0; i < RequestRateLimiter.FAIR_SHARE_INTERVAL + 1; i++) {
+      reads.add(limiter.acquire(Lane.READ));
+    }
+
+    watch.get(5, TimeUnit.SECONDS);
+    // the watch waited longest, so it gets the fair share permit instead of waiting for all the reads
+    assertThat(reads.get(RequestRateLimiter.FAIR_SHARE_INTERVAL - 1)).isNotDone();
+    assertThat(reads.get(RequestRateLimiter.FAIR_SHARE_INTERVAL - 2)).isDone();
+  }
+
+  @Test
+  void laneOfRequest() {
+    StandardHttpRequest.Builder builder = new StandardHttpRequest.Builder();
+
+    assertThat(Lane.of(builder.uri("http://localhost/api/v1/pods?watch=true").build())).isEqualTo(Lane.WATCH);
+    assertThat(Lane.of(builder.uri("http://localhost/api/v1/pods").build())).isEqualTo(Lane.READ);
+    assertThat(Lane.of(builder.uri("http://localhost/api/v1/pods").post("application/json", "{}").build()))
+        .isEqualTo(Lane.WRITE);
+  }
+
+}
@@ -17,6 +17,8 @@ package io.fabric8.kubernetes.client.http;
 
 import io.fabric8.kubernetes.client.RequestConfigBuilder;
 import io.fabric8.kubernetes.client.http.WebSocket.Listener;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import io.fabric8.kubernetes.client.metrics.SimpleClientMetrics;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,8 @@ import org.mockito.Mockito;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -113,6 +117,113 @@ class StandardHttpClientTest {
     Mockito.verify(asyncResp.body()).cancel();
   }
 
+  @Test
+  void identicalGetsAreCoalesced() throws Exception {
+    RequestCoalescer coalescer = new RequestCoalescer();
+    client = (TestStandardHttpClient) new TestStandardHttpClientFactory().newBuilder().tag(coalescer).build();
+    final CompletableFuture<HttpResponse<AsyncBody>> responseFuture = new CompletableFuture<>();
+    client.expect("/path", (r, c) -> {
+      final AsyncBody asyncBody = new TestAsyncBody();
+      return responseFuture.thenApply(ignored -> {
+        try {
+          c.consume(Collections.singletonList(ByteBuffer.wrap("body".getBytes(StandardCharsets.UTF_8))), asyncBody);
+        } catch (Exception e) {
+          throw new AssertionError(e);
+        }
+        return new TestHttpResponse<AsyncBody>().withCode(200).withBody(asyncBody);
+      });
+    });
+    final HttpRequest request = client.newHttpRequestBuilder().uri("http://localhost/path").build();
+
+    CompletableFuture<HttpResponse<String>> first = client.sendAsync(request, String.class);
+    CompletableFuture<HttpResponse<String>> second = client.sendAsync(request, String.class);
+    responseFuture.complete(null);
+
+    assertThat(first.get(10, TimeUnit.SECONDS).body()).isEqualTo("body");
+    assertThat(second.get(10, TimeUnit.SECONDS).body()).isEqualTo("body");
+    assertThat(client.getRecordedConsumeBytesDirects()).hasSize(1);
+    assertThat(coalescer.getCoalesced()).isEqualTo(1);
+  }
+
+  @Test
+  void coalescedCallersGetTheirOwnBytes() throws Exception {
+    client = (TestStandardHttpClient) new TestStandardHttpClientFactory().newBuilder().tag(new RequestCoalescer()).build();
+    final CompletableFuture<HttpResponse<AsyncBody>> responseFuture = new CompletableFuture<>();
+    client.expect("/path", (r, c) -> {
+      final AsyncBody asyncBody = new TestAsyncBody();
+      return responseFuture.thenApply(ignored -> {
+        try {
+          c.consume(Collections.singletonList(ByteBuffer.wrap("body".getBytes(StandardCharsets.UTF_8))), asyncBody);
+        } catch (Exception e) {
+          throw new AssertionError(e);
+        }
+        return new TestHttpResponse<AsyncBody>().withCode(200).withBody(asyncBody);
+      });
+    });
+    final HttpRequest request = client.newHttpRequestBuilder().uri("http://localhost/path").build();
+
+    CompletableFuture<HttpResponse<byte[]>> first = client.sendAsync(request, byte[].class);
+    CompletableFuture<HttpResponse<byte[]>> second = client.sendAsync(request, byte[].class);
+    responseFuture.complete(null);
+
+    HttpResponse<byte[]> firstResponse = first.get(10, TimeUnit.SECONDS);
+    HttpResponse<byte[]> secondResponse = second.get(10, TimeUnit.SECONDS);
+    assertThat(firstResponse).isNotSameAs(secondResponse);
+    firstResponse.body()[0] = 'x';
+    assertThat(new String(secondResponse.body(), StandardCharsets.UTF_8)).isEqualTo("body");
+    assertThat(client.getRecordedConsumeBytesDirects()).hasSize(1);
+  }
+
+  @Test
+  void requestMetricsAreRecorded() throws Exception {
+    SimpleClientMetrics metrics = new SimpleClientMetrics();
+    client = (TestStandardHttpClient) new TestStandardHttpClientFactory().newBuilder().tag(metrics).build();
+    client.expect("/api/v1/namespaces/ns/pods", new IOException("Unreachable!"));
+    client.expect("/api/v1/namespaces/ns/pods", 200, "body");
+
+    client.sendAsync(client.newHttpRequestBuilder().uri("http://localhost/api/v1/namespaces/ns/pods").build(), String.class)
+        .get(10, TimeUnit.SECONDS);
+
+    Awaitility.await().atMost(10, TimeUnit.SECONDS)
+        .until(() -> metrics.getRequestStatistics("GET", "pods", "ns", 200) != null);
+    SimpleClientMetrics.RequestStatistics statistics = metrics.getRequestStatistics("GET", "pods", "ns", 200);
+    assertThat(statistics.getLatency().getCount()).isEqualTo(1);
+    assertThat(statistics.getResponseBytes()).isEqualTo(4);
+    assertThat(statistics.getRetries()).isEqualTo(1);
+  }
+
+  @Test
+  void tagsAreMatchedByExactClass() {
+    SimpleClientMetrics metrics = new SimpleClientMetrics();
+    Runnable runnable = () -> {
+    };
+    client = (TestStandardHttpClient) new TestStandardHttpClientFactory().newBuilder().tag(metrics).tag(runnable).build();
+
+    assertThat(client.getTag(SimpleClientMetrics.class)).isSameAs(metrics);
+    assertThat(client.getTag(ClientMetrics.class)).isSameAs(metrics);
+    assertThat(client.getTag(Runnable.class)).isNull();
+  }
+
+  @Test
+  void interceptorResendsAreRateLimited() throws Exception {
+    RequestRateLimiter limiter = new RequestRateLimiter(100, 10);
+    client = (TestStandardHttpClient) new TestStandardHttpClientFactory().newBuilder().tag(limiter)
+        .addOrReplaceInterceptor("refresh", new Interceptor() {
+          @Override
+          public CompletableFuture<Boolean> afterFailure(BasicBuilder builder, HttpResponse<?> response, RequestTags tags) {
+            return CompletableFuture.completedFuture(true);
+          }
+        }).build();
+    client.expect("/path", 401, "");
+    client.expect("/path", 200, "body");
+
+    client.sendAsync(client.newHttpRequestBuilder().uri("http://localhost/path").build(), String.class)
+        .get(10, TimeUnit.SECONDS);
+
+    assertThat(client.getRecordedConsumeBytesDirects()).hasSize(2);
+    assertThat(limiter.getAcquired(RequestRateLimiter.Lane.READ)).isEqualTo(2);
+  }
+
   @Test
   void test10RetriesWithDefaultConfig() {
     IntStream.range(0, 11).forEach(i -> client.expect(".*", new IOException(i + " - Unreachable!")));
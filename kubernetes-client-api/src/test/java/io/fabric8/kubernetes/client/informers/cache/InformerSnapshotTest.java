@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InformerSnapshotTest {
+
+  private final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void testSaveRestore() {
+    InformerSnapshot snapshot = new InformerSnapshot(dir.resolve("configmaps"), serialization);
+    List<ConfigMap> items = Arrays.asList(configMap("a", "line\nbreak"), configMap("b", "value"));
+    SharedIndexInformer<ConfigMap> saved = informer(ConfigMap.class, "10", items);
+
+    assertTrue(snapshot.save(saved));
+
+    SharedIndexInformer<ConfigMap> restored = informer(ConfigMap.class, null, null);
+    assertTrue(snapshot.restore(restored));
+
+    ArgumentCaptor<Stream<ConfigMap>> captor = ArgumentCaptor.forClass(Stream.class);
+    Mockito.verify(restored).initialState(captor.capture(), Mockito.eq(Collections.singletonMap(null, "10")));
+    assertEquals(items, captor.getValue().collect(Collectors.toList()));
+  }
+
+  @Test
+  void testSaveRestorePerNamespace() {
+    InformerSnapshot snapshot = new InformerSnapshot(dir.resolve("configmaps"), serialization);
+    Map<String, String> resourceVersions = new LinkedHashMap<>();
+    resourceVersions.put("ns1", "10");
+    resourceVersions.put("ns2", "9");
+    SharedIndexInformer<ConfigMap> saved = informer(ConfigMap.class, null, Arrays.asList(configMap("a", "value")));
+    Mockito.when(saved.lastSyncResourceVersions()).thenReturn(resourceVersions);
+
+    assertTrue(snapshot.save(saved));
+
+    SharedIndexInformer<ConfigMap> restored = informer(ConfigMap.class, null, null);
+    assertTrue(snapshot.restore(restored));
+
+    // each namespace resumes from its own version
+    Mockito.verify(restored).initialState(Mockito.any(), Mockito.eq(resourceVersions));
+  }
+
+  @Test
+  void testNotSyncedIsNotSaved() {
+    Path file = dir.resolve("configmaps");
+    InformerSnapshot snapshot = new InformerSnapshot(file, serialization);
+
+    assertFalse(snapshot.save(informer(ConfigMap.class, null, null)));
+    SharedIndexInformer<ConfigMap> partiallySynced = informer(ConfigMap.class, null, null);
+    Map<String, String> resourceVersions = new LinkedHashMap<>();
+    resourceVersions.put("ns1", "10");
+    resourceVersions.put("ns2", null);
+    Mockito.when(partiallySynced.lastSyncResourceVersions()).thenReturn(resourceVersions);
+    assertFalse(snapshot.save(partiallySynced));
+    assertFalse(Files.exists(file));
+  }
+
+  @Test
+  void testIncompatibleOrUnreadableIsIgnored() throws IOException {
+    Path file = dir.resolve("snapshot");
+    InformerSnapshot snapshot = new InformerSnapshot(file, serialization);
+    SharedIndexInformer<Pod> pods = informer(Pod.class, null, null);
+
+    // missing
+    assertFalse(snapshot.restore(pods));
+
+    // different type
+    snapshot.save(informer(ConfigMap.class, "1", Arrays.asList(configMap("a", "value"))));
+    assertFalse(snapshot.restore(pods));
+
+    // corrupt
+    Files.write(file, new byte[] { 1, 2, 3 });
+    assertFalse(snapshot.restore(pods));
+
+    Mockito.verify(pods, Mockito.never()).initialState(Mockito.any(), Mockito.any());
+  }
+
+  private static <T> SharedIndexInformer<T> informer(Class<T> type, String resourceVersion, List<T> items) {
+    SharedIndexInformer<T> informer = Mockito.mock(SharedIndexInformer.class);
+    Mockito.when(informer.getApiTypeClass()).thenReturn(type);
+    Mockito.when(informer.lastSyncResourceVersions()).thenReturn(Collections.singletonMap(null, resourceVersion));
+    Store<T> store = Mockito.mock(Store.class);
+    Mockito.when(store.list()).thenReturn(items);
+    Mockito.when(informer.getStore()).thenReturn(store);
+    return informer;
+  }
+
+  private static ConfigMap configMap(String name, String value) {
+    return new ConfigMapBuilder().withNewMetadata()
+        .withName(name)
+        .withNamespace("ns")
+        .withResourceVersion("1")
+        .endMetadata()
+        .addToData("key", value)
+        .build();
+  }
+
+}
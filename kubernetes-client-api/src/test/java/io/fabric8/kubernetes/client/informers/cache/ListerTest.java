@@ -15,6 +15,9 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -54,4 +57,36 @@ class ListerTest {
     assertEquals(2, result.namespace("other").list().size());
   }
 
+  @Test
+  void testListerWithLabelSelector() {
+    // Given
+    final MapIndexer<Pod> indexer = new MapIndexer<>();
+    indexer.put("default", "key1", pod("key1", "web"));
+    indexer.put("default", "key2", pod("key2", "db"));
+    indexer.put("other", "key3", pod("key3", "web"));
+    // When
+    final Lister<Pod> result = new Lister<>(indexer, "default");
+    // Then
+    assertEquals(1, result.list(new LabelSelectorBuilder().addToMatchLabels("app", "web").build()).size());
+    assertEquals(2, result.namespace(null).list(new LabelSelectorBuilder()
+        .addNewMatchExpression().withKey("app").withOperator("NotIn").withValues("db").endMatchExpression().build()).size());
+    assertEquals(1, result.namespace(null).list(null, p -> p.getMetadata().getName().equals("key2")).size());
+  }
+
+  @Test
+  void testListerWithLabelSelectorWithoutMetadata() {
+    // Given
+    final MapIndexer<String> indexer = new MapIndexer<>();
+    indexer.put("default", "key1", "value1");
+    // When
+    final Lister<String> result = new Lister<>(indexer, "default");
+    // Then
+    assertEquals(0, result.list(new LabelSelectorBuilder().addToMatchLabels("app", "web").build()).size());
+    assertEquals(1, result.list(null, "value1"::equals).size());
+  }
+
+  private static Pod pod(String name, String app) {
+    return new PodBuilder().withNewMetadata().withName(name).addToLabels("app", app).endMetadata().build();
+  }
+
 }
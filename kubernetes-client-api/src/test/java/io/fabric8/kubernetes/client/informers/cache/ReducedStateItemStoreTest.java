@@ -15,13 +15,18 @@
  */
 package io.fabric8.kubernetes.client.informers.cache;
 
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 class ReducedStateItemStoreTest {
@@ -55,4 +60,51 @@ class ReducedStateItemStoreTest {
     assertNotNull(store.remove("x"));
   }
 
+  @Test
+  void testRestoreMatchesConvertedState() {
+    KubernetesSerialization serialization = new KubernetesSerialization();
+    ReducedStateItemStore<Pod> store = new ReducedStateItemStore<>(ReducedStateItemStore.NAME_KEY_STATE,
+        Pod.class, serialization, "metadata.ownerReferences", "metadata.annotations", "spec.nodeName",
+        "spec.activeDeadlineSeconds", "status.phase");
+
+    Pod pod = new PodBuilder().withNewMetadata().withName("y").withNamespace("ns").withResourceVersion("2")
+        .addNewOwnerReference().withName("owner").withUid("u").withKind("ReplicaSet").withApiVersion("apps/v1")
+        .endOwnerReference().addToAnnotations("a", "b").endMetadata()
+        .withNewSpec().withNodeName("node").withActiveDeadlineSeconds(5L).endSpec()
+        .withNewStatus().withPhase("Running").endStatus().build();
+
+    store.put("ns/y", pod);
+    Pod restored = store.get("ns/y");
+
+    Pod expected = new PodBuilder().withNewMetadata().withName("y").withNamespace("ns").withResourceVersion("2")
+        .withOwnerReferences(pod.getMetadata().getOwnerReferences()).withAnnotations(pod.getMetadata().getAnnotations())
+        .endMetadata().withNewSpec().withNodeName("node").withActiveDeadlineSeconds(5L).endSpec()
+        .withNewStatus().withPhase("Running").endStatus().build();
+    assertEquals(expected, restored);
+    // the restored state is not shared with the original
+    assertNotSame(pod.getMetadata().getOwnerReferences().get(0), restored.getMetadata().getOwnerReferences().get(0));
+    assertNotSame(restored.getMetadata().getAnnotations(), store.get("ns/y").getMetadata().getAnnotations());
+  }
+
+  @Test
+  void testGenericResourceAdditionalProperties() {
+    ReducedStateItemStore<GenericKubernetesResource> store = new ReducedStateItemStore<>(
+        ReducedStateItemStore.NAME_KEY_STATE, GenericKubernetesResource.class, new KubernetesSerialization(),
+        "spec.replicas", "status");
+
+    GenericKubernetesResource resource = new GenericKubernetesResourceBuilder().withApiVersion("example.com/v1")
+        .withKind("Example").withNewMetadata().withName("y").withResourceVersion("3").endMetadata()
+        .addToAdditionalProperties("spec", Collections.singletonMap("replicas", 2))
+        .addToAdditionalProperties("status", Collections.singletonMap("ready", true))
+        .build();
+
+    store.put("y", resource);
+    GenericKubernetesResource restored = store.get("y");
+
+    assertEquals("y", restored.getMetadata().getName());
+    assertEquals("3", restored.getMetadata().getResourceVersion());
+    assertEquals(2, (Integer) restored.get("spec", "replicas"));
+    assertEquals(true, restored.get("status", "ready"));
+  }
+
 }
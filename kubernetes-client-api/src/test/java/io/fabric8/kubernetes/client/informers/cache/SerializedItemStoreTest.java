@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.cache;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SerializedItemStoreTest {
+
+  private final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void testStoreRestore(boolean offHeap) {
+    SerializedItemStore<ConfigMap> store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, ConfigMap.class,
+        serialization, 0, offHeap);
+    ConfigMap configMap = configMap("1");
+
+    assertNull(store.put("ns/x", configMap));
+    ConfigMap restored = store.get("ns/x");
+
+    assertNotSame(configMap, restored);
+    assertEquals(configMap, restored);
+    assertEquals("ns/x", store.getKey(restored));
+    assertEquals(1, store.size());
+    assertEquals("ns/x", store.keySet().collect(Collectors.joining()));
+    assertEquals(configMap, store.values().findFirst().orElseThrow());
+
+    ConfigMap updated = configMap("2");
+    assertEquals(configMap, store.put("ns/x", updated));
+    assertEquals(updated, store.remove("ns/x"));
+    assertNull(store.get("ns/x"));
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  void testDecodedCache() {
+    SerializedItemStore<ConfigMap> store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, ConfigMap.class,
+        serialization, 1, false);
+    ConfigMap first = configMap("1");
+    ConfigMap second = configMap("2");
+
+    store.put("ns/first", first);
+    assertSame(first, store.get("ns/first"));
+
+    // evicts first from the decoded cache
+    store.put("ns/second", second);
+    assertSame(second, store.get("ns/second"));
+    ConfigMap decoded = store.get("ns/first");
+    assertNotSame(first, decoded);
+    assertEquals(first, decoded);
+    assertSame(decoded, store.get("ns/first"));
+  }
+
+  @Test
+  void testScanDoesNotEvictDecodedCache() {
+    SerializedItemStore<ConfigMap> store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, ConfigMap.class,
+        serialization, 1, false);
+    ConfigMap hot = configMap("1");
+    store.put("ns/other", configMap("2"));
+    store.put("ns/hot", hot);
+    assertSame(hot, store.get("ns/hot"));
+
+    assertEquals(2, store.values().count());
+
+    assertSame(hot, store.get("ns/hot"));
+  }
+
+  @Test
+  void testClose() {
+    SerializedItemStore<ConfigMap> store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, ConfigMap.class,
+        serialization, 0, false);
+    ConfigMap configMap = configMap("1");
+    store.put("ns/x", configMap);
+    assertEquals(configMap, store.get("ns/x"));
+
+    store.close();
+
+    // still usable, just without pooling
+    assertEquals(configMap, store.put("ns/x", configMap("2")));
+    assertEquals("2", store.get("ns/x").getMetadata().getResourceVersion());
+  }
+
+  @Test
+  void testEncodedSizeIsSmallerThanJson() {
+    SerializedItemStore<ConfigMap> store = new SerializedItemStore<>(Cache::metaNamespaceKeyFunc, ConfigMap.class,
+        serialization);
+    ConfigMap configMap = configMap("1");
+
+    store.put("ns/x", configMap);
+
+    assertTrue(store.getEncodedSize() < serialization.asJsonBytes(configMap).length);
+  }
+
+  private static ConfigMap configMap(String resourceVersion) {
+    ConfigMapBuilder builder = new ConfigMapBuilder().withNewMetadata()
+        .withName("x")
+        .withNamespace("ns")
+        .withResourceVersion(resourceVersion)
+        .addToLabels("app.kubernetes.io/name", "test")
+        .endMetadata();
+    for (int i = 0; i < 20; i++) {
+      builder.addToData("key-" + i, "value-" + i);
+    }
+    return builder.build();
+  }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.internal;
+
+import io.fabric8.kubernetes.client.Config.ExecCredential;
+import io.fabric8.kubernetes.client.Config.ExecCredentialStatus;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecCredentialCacheTest {
+
+  private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+  private final ExecCredentialCache cache = new ExecCredentialCache(Clock.fixed(NOW, ZoneOffset.UTC));
+  private final AtomicInteger runs = new AtomicInteger();
+
+  @Test
+  void credentialWithoutExpirationIsKeptUntilInvalidated() {
+    Supplier<ExecCredential> loader = () -> credential("token-" + runs.incrementAndGet(), null);
+
+    assertThat(cache.get("key", loader).status.token).isEqualTo("token-1");
+    assertThat(cache.get("key", loader).status.token).isEqualTo("token-1");
+
+    cache.invalidate("token-1");
+
+    assertThat(cache.get("key", loader).status.token).isEqualTo("token-2");
+    assertThat(runs).hasValue(2);
+  }
+
+  @Test
+  void credentialIsRefreshedAheadOfExpiration() {
+    AtomicInteger expiringRuns = new AtomicInteger();
+    Supplier<ExecCredential> valid = () -> {
+      runs.incrementAndGet();
+      return credential("valid", NOW.plusSeconds(600).toString());
+    };
+    Supplier<ExecCredential> expiring = () -> {
+      expiringRuns.incrementAndGet();
+      return credential("expiring", NOW.plusSeconds(30).toString());
+    };
+
+    cache.get("valid", valid);
+    cache.get("valid", valid);
+    cache.get("expiring", expiring);
+    cache.get("expiring", expiring);
+
+    assertThat(runs).hasValue(1);
+    assertThat(expiringRuns).hasValue(2);
+  }
+
+  @Test
+  void concurrentCallersShareOneRefresh() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Supplier<ExecCredential> loader = () -> {
+      runs.incrementAndGet();
+      loading.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return credential("token", null);
+    };
+
+    CompletableFuture<ExecCredential> first = CompletableFuture.supplyAsync(() -> cache.get("key", loader));
+    assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<ExecCredential> second = new CompletableFuture<>();
+    Thread secondCaller = new Thread(() -> second.complete(cache.get("key", loader)));
+    secondCaller.start();
+    // the second caller must be waiting on the in-flight refresh - running the loader would leave it TIMED_WAITING
+    Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> secondCaller.getState() == Thread.State.WAITING);
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get(5, TimeUnit.SECONDS));
+    assertThat(runs).hasValue(1);
+  }
+
+  @Test
+  void errorFromLoaderDoesNotLeaveEntryPending() {
+    Supplier<ExecCredential> failing = () -> {
+      throw new LinkageError("broken plugin");
+    };
+
+    assertThatThrownBy(() -> cache.get("key", failing)).isInstanceOf(LinkageError.class);
+
+    assertThat(cache.get("key", () -> credential("token", null)).status.token).isEqualTo("token");
+  }
+
+  private static ExecCredential credential(String token, String expirationTimestamp) {
+    ExecCredential credential = new ExecCredential();
+    credential.status = new ExecCredentialStatus();
+    credential.status.token = token;
+    credential.status.expirationTimestamp = expirationTimestamp;
+    return credential;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.jfr;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientEventsTest {
+
+  private static final String DESERIALIZATION = "io.fabric8.kubernetes.client.Deserialization";
+  private static final String WATCH_CONNECT = "io.fabric8.kubernetes.client.WatchConnect";
+  private static final String WATCH_CLOSE = "io.fabric8.kubernetes.client.WatchClose";
+  private static final String HTTP_REQUEST = "io.fabric8.kubernetes.client.HttpRequest";
+
+  @Test
+  void noEventWithoutRecording() {
+    assertThat(ClientEvents.beginDeserialization()).isNull();
+    // ending a disabled event is a no-op
+    ClientEvents.endDeserialization(null, Pod.class);
+  }
+
+  @Test
+  void deserializationIsRecorded(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("client.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(DESERIALIZATION).withoutThreshold();
+      recording.start();
+      new KubernetesSerialization().unmarshal("{\"kind\":\"Pod\",\"apiVersion\":\"v1\"}", Pod.class);
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+        .filter(e -> e.getEventType().getName().equals(DESERIALIZATION))
+        .collect(Collectors.toList());
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getString("type")).isEqualTo(Pod.class.getName());
+  }
+
+  @Test
+  void onlyEnabledEventsAreRecorded(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("client.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(WATCH_CONNECT);
+      recording.disable(WATCH_CLOSE);
+      recording.disable(HTTP_REQUEST);
+      recording.start();
+      ClientEvents.watchConnecting("pods", "ns", "5", true);
+      ClientEvents.watchClosed("pods", "ns", null);
+      assertThat(ClientEvents.beginHttpRequest()).isNull();
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+        .filter(e -> e.getEventType().getName().startsWith("io.fabric8.kubernetes.client."))
+        .collect(Collectors.toList());
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getEventType().getName()).isEqualTo(WATCH_CONNECT);
+    assertThat(events.get(0).getString("resourceVersion")).isEqualTo("5");
+    assertThat(events.get(0).getBoolean("reconnect")).isTrue();
+  }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.metrics;
+
+import io.fabric8.kubernetes.client.http.StandardHttpRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMetricTest {
+
+  @Test
+  void resourceAndNamespaceFromPath() {
+    RequestMetric metric = of("http://localhost/apis/apps/v1/namespaces/ns/deployments/name");
+    assertThat(metric.getVerb()).isEqualTo("GET");
+    assertThat(metric.getResource()).isEqualTo("deployments");
+    assertThat(metric.getNamespace()).isEqualTo("ns");
+
+    metric = of("http://localhost/api/v1/namespaces/ns");
+    assertThat(metric.getResource()).isEqualTo("namespaces");
+    assertThat(metric.getNamespace()).isNull();
+
+    metric = of("http://localhost/api/v1/pods?watch=true");
+    assertThat(metric.getVerb()).isEqualTo(RequestMetric.WATCH);
+    assertThat(metric.getResource()).isEqualTo("pods");
+
+    assertThat(of("http://localhost/version").getResource()).isNull();
+  }
+
+  private static RequestMetric of(String uri) {
+    return RequestMetric.of(new StandardHttpRequest.Builder().uri(uri).build(), 200, 0, 0, 0);
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.utils;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingListParserTest {
+
+  private final KubernetesSerialization kubernetesSerialization = new KubernetesSerialization();
+
+  @Test
+  void itemsAreStreamedAcrossChunks() throws IOException {
+    PodList podList = new PodListBuilder().withNewMetadata().withResourceVersion("5").withContinue("next").endMetadata()
+        .addToItems(pod("a"), pod("b"), pod("c"))
+        .build();
+    byte[] bytes = kubernetesSerialization.asJson(podList).getBytes(StandardCharsets.UTF_8);
+    List<Pod> items = new ArrayList<>();
+    StreamingListParser<PodList, Pod> parser = kubernetesSerialization.createStreamingListParser(PodList.class,
+        Pod.class, items::add);
+
+    // feed one byte at a time to exercise split tokens
+    for (byte b : bytes) {
+      parser.feed(ByteBuffer.wrap(new byte[] { b }));
+    }
+    PodList result = parser.end();
+
+    assertThat(items).extracting(p -> p.getMetadata().getName()).containsExactly("a", "b", "c");
+    assertThat(items.get(0)).isEqualTo(pod("a"));
+    assertThat(result.getItems()).isEmpty();
+    assertThat(result.getMetadata().getResourceVersion()).isEqualTo("5");
+    assertThat(result.getMetadata().getContinue()).isEqualTo("next");
+  }
+
+  @Test
+  void metadataAfterItems() throws IOException {
+    List<Pod> items = new ArrayList<>();
+    StreamingListParser<PodList, Pod> parser = kubernetesSerialization.createStreamingListParser(PodList.class,
+        Pod.class, items::add);
+
+    parser.feed(ByteBuffer.wrap(
+        "{\"items\":[{\"metadata\":{\"name\":\"a\",\"labels\":{\"items\":\"x\"}}},null],\"metadata\":{\"resourceVersion\":\"2\"}}"
+            .getBytes(StandardCharsets.UTF_8)));
+    PodList result = parser.end();
+
+    assertThat(items).hasSize(1);
+    assertThat(items.get(0).getMetadata().getLabels()).containsEntry("items", "x");
+    assertThat(result.getMetadata().getResourceVersion()).isEqualTo("2");
+  }
+
+  @Test
+  void incompleteContentFails() throws IOException {
+    StreamingListParser<PodList, Pod> parser = kubernetesSerialization.createStreamingListParser(PodList.class,
+        Pod.class, p -> {
+        });
+
+    parser.feed(ByteBuffer.wrap("{\"items\":[{\"metadata\":{}}".getBytes(StandardCharsets.UTF_8)));
+
+    assertThrows(IOException.class, parser::end);
+  }
+
+  private static Pod pod(String name) {
+    return new PodBuilder().withNewMetadata().withName(name).withNamespace("ns").endMetadata().withNewSpec()
+        .addNewContainer().withName("c").withImage("image").endContainer().endSpec().build();
+  }
+
+}
@@ -24,12 +24,16 @@ import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusDetails;
 import io.fabric8.kubernetes.api.model.WatchEvent;
+import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.http.BufferUtil;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.jfr.ClientEvents;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -37,28 +41,48 @@ import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.ProtocolException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static java.net.HttpURLConnection.HTTP_GONE;
 
 public abstract class AbstractWatchManager<T extends HasMetadata> implements Watch {
 
+  /**
+   * The annotation on the bookmark that marks the end of the initial events when watching with
+   * {@link ListOptions#getSendInitialEvents()}
+   */
+  public static final String INITIAL_EVENTS_END_ANNOTATION = "k8s.io/initial-events-end";
+
+  /**
+   * The maximum number of events of a single watch that are decoded on the executor at once
+   */
+  static final int MAX_PARALLEL_DECODES = Math.max(2, Runtime.getRuntime().availableProcessors());
+
   private static final class SerialWatcher<T> implements Watcher<T> {
     private final Watcher<T> watcher;
     SerialExecutor serialExecutor;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger decoding = new AtomicInteger();
+    private final AtomicReference<Runnable> deferredRequest = new AtomicReference<>();
 
     private SerialWatcher(Watcher<T> watcher, SerialExecutor serialExecutor) {
       this.watcher = watcher;
@@ -67,7 +91,76 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
     @Override
     public void eventReceived(Action action, T resource) {
-      serialExecutor.execute(() -> watcher.eventReceived(action, resource));
+      reserve();
+      serialExecutor.execute(() -> {
+        try {
+          watcher.eventReceived(action, resource);
+        } finally {
+          release();
+        }
+      });
+    }
+
+    /**
+     * Count an event that is on its way to the watcher against the capacity
+     */
+    void reserve() {
+      pending.incrementAndGet();
+    }
+
+    void release() {
+      pending.decrementAndGet();
+      runDeferredRequest();
+    }
+
+    /**
+     * Count an event that is about to be decoded on the executor, unless too many already are
+     */
+    boolean tryReserveDecode() {
+      int current;
+      do {
+        current = decoding.get();
+        if (current >= MAX_PARALLEL_DECODES) {
+          return false;
+        }
+      } while (!decoding.compareAndSet(current, current + 1));
+      return true;
+    }
+
+    void releaseDecode() {
+      decoding.decrementAndGet();
+      runDeferredRequest();
+    }
+
+    /**
+     * Run the request for more data now, or once the queue has drained below its capacity
+     */
+    void request(Runnable request) {
+      if (hasCapacity()) {
+        request.run();
+        return;
+      }
+      deferredRequest.set(request);
+      // the queue may have drained before the request was deferred
+      runDeferredRequest();
+    }
+
+    private boolean hasCapacity() {
+      if (decoding.get() >= MAX_PARALLEL_DECODES) {
+        return false;
+      }
+      // read lazily, the watcher is only consulted once events flow
+      int capacity = watcher.eventQueueCapacity();
+      return capacity <= 0 || pending.get() < capacity;
+    }
+
+    private void runDeferredRequest() {
+      if (hasCapacity()) {
+        Runnable request = deferredRequest.getAndSet(null);
+        if (request != null) {
+          request.run();
+        }
+      }
     }
 
     @Override
@@ -104,6 +197,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
   private static final int INFO_LOG_CONNECTION_ERRORS = 10;
 
   final Watcher<T> watcher;
+  private final SerialWatcher<T> serialWatcher;
   final AtomicReference<String> resourceVersion;
 
   final AtomicBoolean forceClosed;
@@ -118,6 +212,9 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
   private final boolean receiveBookmarks;
 
+  private final boolean parallelDecoding;
+  private CompletableFuture<Void> decodedEvents = CompletableFuture.completedFuture(null);
+
   volatile WatchRequestState latestRequestState;
   private final Map<Class<?>, Integer> endErrors = new ConcurrentHashMap<>();
   private AtomicInteger retryAfterSeconds = new AtomicInteger();
@@ -128,7 +225,9 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
       Watcher<T> watcher, BaseOperation<T, ?, ?> baseOperation, ListOptions listOptions, int reconnectLimit,
       int reconnectInterval, HttpClient client) throws MalformedURLException {
     // prevent the callbacks from happening in the httpclient thread
-    this.watcher = new SerialWatcher<>(watcher, new SerialExecutor(baseOperation.getOperationContext().getExecutor()));
+    this.serialWatcher = new SerialWatcher<>(watcher, new SerialExecutor(baseOperation.getOperationContext().getExecutor()));
+    this.watcher = serialWatcher;
+    this.parallelDecoding = watcher != null && watcher.parallelDecoding();
     this.reconnectLimit = reconnectLimit;
     this.retryIntervalCalculator = new ExponentialBackoffIntervalCalculator(reconnectInterval, reconnectLimit);
     this.resourceVersion = new AtomicReference<>(listOptions.getResourceVersion());
@@ -178,6 +277,19 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     this.watchEndCheckMs = watchEndCheckMs;
   }
 
+  @Override
+  public int getEventQueueDepth() {
+    return serialWatcher.pending.get();
+  }
+
+  /**
+   * Request more data from the server. If the watcher has a bounded {@link Watcher#eventQueueCapacity()}
+   * the request is held back until the watcher has caught up.
+   */
+  void requestMore(Runnable request) {
+    serialWatcher.request(request);
+  }
+
   protected abstract void closeCurrentRequest();
 
   final void close(WatcherException cause) {
@@ -186,6 +298,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     } else {
       // proactively close the request (it will be called again in close)
       closeRequest();
+      ClientEvents.watchClosed(baseOperation.getResourceT(), baseOperation.getNamespace(), cause.getMessage());
       try {
         watcher.onClose(cause);
       } finally {
@@ -199,6 +312,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
       logger.debug("Ignoring duplicate firing of onClose event");
       return;
     }
+    ClientEvents.watchClosed(baseOperation.getResourceT(), baseOperation.getNamespace(), null);
     watcher.onClose();
   }
 
@@ -225,6 +339,12 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
       return;
     }
 
+    if (Boolean.TRUE.equals(listOptions.getSendInitialEvents())) {
+      // a new request would restart the initial events, which the watcher would not be able to tell apart
+      close(new WatcherException("Watch ended before the initial events were complete"));
+      return;
+    }
+
     long delay = nextReconnectInterval();
 
     logger.debug("Scheduling reconnect task in {} ms", delay);
@@ -245,6 +365,7 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
         this.close();
         return;
       }
+      ClientMetrics.from(client).watchReconnected(baseOperation.getResourceT(), baseOperation.getNamespace());
       startWatch();
       if (isForceClosed()) {
         closeRequest();
@@ -315,9 +436,15 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
 
     Map<String, String> headers = new HashMap<>();
     headers.put("Origin", origin);
+    String accept = baseOperation.getAccept();
+    if (accept != null) {
+      headers.put("Accept", accept);
+    }
 
     logger.debug("Watching {}...", url);
 
+    ClientEvents.watchConnecting(baseOperation.getResourceT(), baseOperation.getNamespace(),
+        listOptions.getResourceVersion(), latestRequestState != null);
     closeRequest(); // only one can be active at a time
     latestRequestState = new WatchRequestState();
     start(url, headers, latestRequestState);
@@ -331,15 +458,15 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
     cancelReconnect();
   }
 
-  private WatchEvent contextAwareWatchEventDeserializer(String messageSource)
+  private WatchEvent contextAwareWatchEventDeserializer(Supplier<InputStream> messageSource)
       throws JsonProcessingException {
     KubernetesSerialization kubernetesSerialization = this.baseOperation.getKubernetesSerialization();
     try {
-      return kubernetesSerialization.unmarshal(messageSource, WatchEvent.class);
+      return kubernetesSerialization.unmarshal(messageSource.get(), WatchEvent.class);
     } catch (Exception ex1) {
       // TODO: this is not necessarily correct - it will force the object to be the expected type
       // even though it is not (for example Status could be converted to the typed result)
-      JsonNode json = kubernetesSerialization.unmarshal(messageSource, JsonNode.class);
+      JsonNode json = kubernetesSerialization.unmarshal(messageSource.get(), JsonNode.class);
       JsonNode objectJson = null;
       if (json instanceof ObjectNode && json.has("object")) {
         objectJson = ((ObjectNode) json).remove("object");
@@ -354,43 +481,146 @@ public abstract class AbstractWatchManager<T extends HasMetadata> implements Wat
   }
 
   protected void onMessage(String message, WatchRequestState state) {
+    onMessage(() -> new ByteArrayInputStream(message.getBytes(StandardCharsets.UTF_8)), () -> message, state);
+  }
+
+  /**
+   * Process a single utf-8 encoded event. The buffer is only read for the duration of this call,
+   * and is only decoded to a String if needed for error reporting.
+   */
+  protected void onMessage(ByteBuffer message, WatchRequestState state) {
+    if (parallelDecoding) {
+      // decoding happens after this call returns, so the buffer must be copied
+      byte[] bytes = BufferUtil.toArray(message);
+      onMessage(() -> new ByteArrayInputStream(bytes), () -> new String(bytes, StandardCharsets.UTF_8), state);
+      return;
+    }
+    onMessage(() -> asInputStream(message), () -> StandardCharsets.UTF_8.decode(message.duplicate()).toString(), state);
+  }
+
+  private static InputStream asInputStream(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      return new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    return new ByteArrayInputStream(BufferUtil.toArray(buffer));
+  }
+
+  private void onMessage(Supplier<InputStream> messageSource, Supplier<String> messageText, WatchRequestState state) {
     endErrors.clear();
     if (state.closed.get() || forceClosed.get()) {
       return;
     }
+    if (parallelDecoding) {
+      decodeInParallel(messageSource, messageText, state);
+      return;
+    }
     try {
-      WatchEvent event = contextAwareWatchEventDeserializer(message);
-      Object object = event.getObject();
-      Action action = Action.valueOf(event.getType());
-      if (action == Action.ERROR) {
-        if (object instanceof Status) {
-          Status status = (Status) object;
-
-          onStatus(status, state);
+      onEvent(contextAwareWatchEventDeserializer(messageSource), messageText, state);
+    } catch (Exception e) {
+      onMessageError(e, messageText);
+    }
+  }
+
+  /**
+   * Decode the event on the executor, but process the decoded events in the order the messages were received.
+   * <p>
+   * At most {@link #MAX_PARALLEL_DECODES} events are decoded on the executor at once - beyond that the event is
+   * decoded in the calling thread, and no more data is requested until the decodes catch up.
+   */
+  private synchronized void decodeInParallel(Supplier<InputStream> messageSource, Supplier<String> messageText,
+      WatchRequestState state) {
+    serialWatcher.reserve();
+    CompletableFuture<WatchEvent> decoded;
+    if (serialWatcher.tryReserveDecode()) {
+      decoded = CompletableFuture.supplyAsync(() -> decode(messageSource),
+          baseOperation.getOperationContext().getExecutor());
+      decoded.whenComplete((event, t) -> serialWatcher.releaseDecode());
+    } else {
+      decoded = new CompletableFuture<>();
+      try {
+        decoded.complete(decode(messageSource));
+      } catch (CompletionException e) {
+        decoded.completeExceptionally(e);
+      }
+    }
+    decodedEvents = decodedEvents.thenCompose(ignored -> decoded.handle((event, t) -> {
+      try {
+        if (state.closed.get() || forceClosed.get()) {
+          return null;
+        }
+        if (t != null) {
+          onMessageError(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t, messageText);
         } else {
-          logger.error("Received an error which is not a status but {} - will retry", message);
-          closeRequest();
+          onEvent(event, messageText, state);
         }
-      } else if (object instanceof HasMetadata) {
-        HasMetadata hasMetadata = (HasMetadata) object;
-        updateResourceVersion(hasMetadata.getMetadata().getResourceVersion());
-        eventReceived(action, hasMetadata);
+      } catch (Exception e) {
+        onMessageError(e, messageText);
+      } finally {
+        serialWatcher.release();
+      }
+      return null;
+    }));
+  }
+
+  private WatchEvent decode(Supplier<InputStream> messageSource) {
+    try {
+      return contextAwareWatchEventDeserializer(messageSource);
+    } catch (JsonProcessingException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private void onEvent(WatchEvent event, Supplier<String> messageText, WatchRequestState state) {
+    Object object = event.getObject();
+    Action action = Action.valueOf(event.getType());
+    if (action == Action.BOOKMARK && object instanceof RawExtension) {
+      // a bookmark only conveys metadata, so tolerate one without a kind
+      object = this.baseOperation.getKubernetesSerialization().convertValue(object, baseOperation.getType());
+    }
+    if (action == Action.ERROR) {
+      if (object instanceof Status) {
+        Status status = (Status) object;
+
+        onStatus(status, state);
       } else {
-        final String msg = String.format("Invalid object received: %s", message);
-        close(new WatcherException(msg, null, message));
+        logger.error("Received an error which is not a status but {} - will retry", messageText.get());
+        closeRequest();
+      }
+    } else if (object instanceof HasMetadata) {
+      HasMetadata hasMetadata = (HasMetadata) object;
+      if (action == Action.BOOKMARK && isInitialEventsEnd(hasMetadata)) {
+        // subsequent requests should just watch from here
+        listOptions.setSendInitialEvents(null);
+        listOptions.setResourceVersionMatch(null);
       }
-    } catch (ClassCastException e) {
+      updateResourceVersion(hasMetadata.getMetadata().getResourceVersion());
+      eventReceived(action, hasMetadata);
+    } else {
+      String message = messageText.get();
+      final String msg = String.format("Invalid object received: %s", message);
+      close(new WatcherException(msg, null, message));
+    }
+  }
+
+  private void onMessageError(Throwable e, Supplier<String> messageText) {
+    if (e instanceof ClassCastException) {
       final String msg = "Received wrong type of object for watch";
-      close(new WatcherException(msg, e, message));
-    } catch (JsonProcessingException e) {
+      close(new WatcherException(msg, e, messageText.get()));
+    } else if (e instanceof JsonProcessingException) {
+      String message = messageText.get();
       final String msg = "Couldn't deserialize watch event: " + message;
       close(new WatcherException(msg, e, message));
-    } catch (Exception e) {
+    } else {
       final String msg = "Unexpected exception processing watch event";
-      close(new WatcherException(msg, e, message));
+      close(new WatcherException(msg, e, messageText.get()));
     }
   }
 
+  public static boolean isInitialEventsEnd(HasMetadata bookmark) {
+    Map<String, String> annotations = bookmark.getMetadata().getAnnotations();
+    return annotations != null && "true".equals(annotations.get(INITIAL_EVENTS_END_ANNOTATION));
+  }
+
   protected boolean onStatus(Status status, WatchRequestState state) {
     endErrors.clear();
     if (state.closed.get()) {
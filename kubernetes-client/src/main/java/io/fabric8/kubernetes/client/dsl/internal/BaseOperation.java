@@ -29,6 +29,8 @@ import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Status;
 import io.fabric8.kubernetes.api.model.StatusDetails;
 import io.fabric8.kubernetes.api.model.StatusDetailsBuilder;
@@ -50,6 +52,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.Waitable;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 import io.fabric8.kubernetes.client.extension.ExtensibleResource;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.impl.BaseClient;
@@ -57,9 +60,11 @@ import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
+import io.fabric8.kubernetes.client.utils.StreamingListParser;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.URLUtils.URLBuilder;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -78,7 +83,9 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -410,6 +417,17 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return withNewFilter().withoutField(key, value).endFilter();
   }
 
+  @Override
+  public FilterWatchListDeletable<PartialObjectMetadata, PartialObjectMetadataList, Resource<PartialObjectMetadata>> metadataOnly() {
+    return new MetadataOnlyOperation(context.withItem(null), new ResourceDefinitionContext.Builder()
+        .withGroup(getAPIGroupName())
+        .withVersion(getAPIGroupVersion())
+        .withPlural(getResourceT())
+        .withKind(getKind())
+        .withNamespaced(isResourceNamespaced())
+        .build());
+  }
+
   public String getFieldQueryParam() {
     return context.getFieldQueryParam();
   }
@@ -428,10 +446,9 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
   public CompletableFuture<L> submitList(ListOptions listOptions) {
     try {
       URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null));
-      HttpRequest.Builder requestBuilder = withRequestTimeout(httpClient.newHttpRequestBuilder()).url(fetchListUrl);
-      Type refinedType = listType.equals(DefaultKubernetesResourceList.class)
-          ? this.getKubernetesSerialization().constructParametricType(listType, type)
-          : listType;
+      HttpRequest.Builder requestBuilder = withAccept(withRequestTimeout(httpClient.newHttpRequestBuilder()))
+          .url(fetchListUrl);
+      Type refinedType = getRefinedListType();
       TypeReference<L> listTypeReference = new TypeReference<L>() {
         @Override
         public Type getType() {
@@ -445,6 +462,35 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     }
   }
 
+  @Override
+  public CompletableFuture<L> submitList(ListOptions listOptions, Consumer<T> itemConsumer, Executor itemExecutor) {
+    try {
+      URL fetchListUrl = fetchListUrl(getNamespacedUrl(), defaultListOptions(listOptions, null));
+      HttpRequest.Builder requestBuilder = withAccept(withRequestTimeout(httpClient.newHttpRequestBuilder()))
+          .url(fetchListUrl);
+      boolean updateApiVersion = Utils.isNotNullOrEmpty(apiVersion);
+      boolean updateKind = GenericKubernetesResource.class.isAssignableFrom(getType());
+      // items are handed off so that the consumer never runs on, or blocks, the http client thread
+      ListItemDispatcher<T> items = new ListItemDispatcher<>(itemConsumer, itemExecutor);
+      StreamingListParser<L, T> parser = getKubernetesSerialization().createStreamingListParser(getRefinedListType(),
+          type, item -> {
+            if (updateApiVersion || updateKind) {
+              updateListItem(item, updateKind);
+            }
+            items.accept(item);
+          });
+      return handleStreamingResponse(httpClient, requestBuilder, parser, items);
+    } catch (IOException e) {
+      throw KubernetesClientException.launderThrowable(forOperationType("list"), e);
+    }
+  }
+
+  private Type getRefinedListType() {
+    return listType.equals(DefaultKubernetesResourceList.class)
+        ? this.getKubernetesSerialization().constructParametricType(listType, type)
+        : listType;
+  }
+
   @Override
   public L list(ListOptions listOptions) {
     try {
@@ -882,16 +928,20 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
       boolean updateKind = GenericKubernetesResource.class.isAssignableFrom(getType());
       if (updateApiVersion || updateKind) {
         for (T item : list.getItems()) {
-          updateApiVersion(item);
-          if (updateKind && item != null && item.getKind() == null) {
-            ((GenericKubernetesResource) item).setKind(getKind());
-          }
+          updateListItem(item, updateKind);
         }
       }
     }
     return list;
   }
 
+  private void updateListItem(T item, boolean updateKind) {
+    updateApiVersion(item);
+    if (updateKind && item != null && item.getKind() == null) {
+      ((GenericKubernetesResource) item).setKind(getKind());
+    }
+  }
+
   /**
    * Updates the resource if it has missing or default apiGroupVersion values and the resource is currently
    * using API Groups with custom version strings
@@ -1064,15 +1114,59 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return createInformer(resync, context.getExecutor());
   }
 
+  @Override
+  public SharedIndexInformer<T> runnableInformer(Collection<String> namespaces, long resync) {
+    if (!isResourceNamespaced()) {
+      throw new KubernetesClientException("Cannot inform on namespaces for a cluster scoped resource");
+    }
+    if (namespaces == null || namespaces.isEmpty()) {
+      throw new KubernetesClientException("At least one namespace must be provided");
+    }
+    Map<String, BaseOperation<T, L, R>> listerWatchers = new LinkedHashMap<>();
+    // use the local context for each namespace but without a resourceVersion
+    namespaces.forEach(ns -> listerWatchers.put(ns, this.inNamespace(ns).withResourceVersion(null).withLimit(this.limit)));
+    return createInformer(listerWatchers, resync, context.getExecutor());
+  }
+
+  @Override
+  public SharedIndexInformer<T> sharedInformer(String configurationKey, Consumer<SharedIndexInformer<T>> configuration) {
+    // the endpoint path covers the group, version, namespace and plural
+    String key = String.join("|", getApiEndpointPath(), Objects.toString(getName(), ""),
+        Objects.toString(context.getLabelQueryParam(), ""), Objects.toString(context.getFieldQueryParam(), ""),
+        Objects.toString(limit, ""), indexers == null ? "" : String.join(",", new TreeMap<>(indexers).keySet()),
+        Objects.toString(configurationKey, ""));
+    SharedIndexInformer<T> result = this.context.getClient().adapt(BaseClient.class).getInformerRegistry()
+        .acquire(key, () -> {
+          SharedIndexInformer<T> informer = runnableInformer(0);
+          if (configuration != null) {
+            configuration.accept(informer);
+          }
+          return informer;
+        });
+    try {
+      result.run();
+    } catch (RuntimeException e) {
+      result.stop();
+      throw e;
+    }
+    return result;
+  }
+
   private DefaultSharedIndexInformer<T, L> createInformer(long resync, Executor executor) {
+    // use the local context / namespace but without a resourceVersion
+    return createInformer(Collections.singletonMap(null, this.withResourceVersion(null).withLimit(this.limit)), resync,
+        executor);
+  }
+
+  private DefaultSharedIndexInformer<T, L> createInformer(Map<String, BaseOperation<T, L, R>> listerWatchers,
+      long resync, Executor executor) {
     T i = getItem();
     if (Utils.isNotNullOrEmpty(getName()) && i != null) {
       checkName(i);
     }
 
-    // use the local context / namespace but without a resourceVersion
-    DefaultSharedIndexInformer<T, L> informer = new DefaultSharedIndexInformer<>(getType(),
-        this.withResourceVersion(null).withLimit(this.limit), resync, executor);
+    DefaultSharedIndexInformer<T, L> informer = new DefaultSharedIndexInformer<>(getType(), listerWatchers, resync,
+        executor);
     if (indexers != null) {
       informer.addIndexers(indexers);
     }
@@ -1110,6 +1204,11 @@ public class BaseOperation<T extends HasMetadata, L extends KubernetesResourceLi
     return config.getWatchReconnectInterval();
   }
 
+  @Override
+  public ClientMetrics getClientMetrics() {
+    return ClientMetrics.from(httpClient);
+  }
+
   @Override
   public Stream<R> resources() {
     return list().getItems().stream().map(this::resource);
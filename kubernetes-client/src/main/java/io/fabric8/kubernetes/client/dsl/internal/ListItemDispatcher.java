@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Hands the items of a streamed list response to the item consumer on an executor, in the order they were parsed,
+ * so that a slow consumer never blocks the http client thread.
+ * <p>
+ * Reading more of the response is held back while {@link #CAPACITY} or more items are pending.
+ *
+ * @param <T> the item type
+ */
+class ListItemDispatcher<T> implements Consumer<T> {
+
+  static final int CAPACITY = 256;
+
+  private final Consumer<T> consumer;
+  private final SerialExecutor executor;
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicReference<Runnable> deferredRequest = new AtomicReference<>();
+  private volatile RuntimeException failure;
+  private volatile boolean stopped;
+
+  ListItemDispatcher(Consumer<T> consumer, Executor executor) {
+    this.consumer = consumer;
+    this.executor = new SerialExecutor(executor);
+  }
+
+  @Override
+  public void accept(T item) {
+    pending.incrementAndGet();
+    executor.execute(() -> {
+      try {
+        if (failure == null && !stopped) {
+          consumer.accept(item);
+        }
+      } catch (RuntimeException e) {
+        failure = e;
+      } finally {
+        pending.decrementAndGet();
+        runDeferredRequest();
+      }
+    });
+  }
+
+  /**
+   * Run the request for more data now, or once the pending items have drained below the capacity
+   */
+  void request(Runnable request) {
+    if (pending.get() < CAPACITY) {
+      request.run();
+      return;
+    }
+    deferredRequest.set(request);
+    // the items may have drained before the request was deferred
+    runDeferredRequest();
+  }
+
+  private void runDeferredRequest() {
+    if (pending.get() < CAPACITY) {
+      Runnable request = deferredRequest.getAndSet(null);
+      if (request != null) {
+        request.run();
+      }
+    }
+  }
+
+  /**
+   * Run the action once all items accepted so far have been handed to the consumer
+   */
+  void afterItems(Runnable action) {
+    executor.execute(action);
+  }
+
+  /**
+   * @return the first exception thrown by the consumer, or null
+   */
+  RuntimeException getFailure() {
+    return failure;
+  }
+
+  /**
+   * Discard any pending items, without interrupting the thread that may be consuming one
+   */
+  void stop() {
+    stopped = true;
+  }
+
+}
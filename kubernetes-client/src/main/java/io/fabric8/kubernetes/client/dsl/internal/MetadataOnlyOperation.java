@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+
+/**
+ * Operates on the same resources as the operation it was created from, but requests that the server
+ * return only their metadata as {@link PartialObjectMetadata}.
+ * <p>
+ * Only reads - gets, lists, watches and informers - are supported. Writing a partial object would drop
+ * the fields that were never read, so creates, updates, patches and scales are rejected.
+ */
+public class MetadataOnlyOperation extends HasMetadataOperationsImpl<PartialObjectMetadata, PartialObjectMetadataList> {
+
+  // the server will pick the appropriate type for lists and single objects / watch events,
+  // and will fall back to the full json if metadata transformation isn't supported
+  static final String ACCEPT = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1,"
+      + "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1,application/json";
+
+  public MetadataOnlyOperation(OperationContext context, ResourceDefinitionContext rdc) {
+    super(context, rdc, PartialObjectMetadata.class, PartialObjectMetadataList.class);
+  }
+
+  @Override
+  public MetadataOnlyOperation newInstance(OperationContext context) {
+    return new MetadataOnlyOperation(context, rdc);
+  }
+
+  @Override
+  protected String getAccept() {
+    return ACCEPT;
+  }
+
+  @Override
+  protected <T, I> T handleCreate(I resource, Class<T> outputType) {
+    throw readOnly("create");
+  }
+
+  @Override
+  protected <T> T handleUpdate(T updated, Class<T> type) {
+    throw readOnly("update");
+  }
+
+  @Override
+  protected <T> T handlePatch(PatchContext patchContext, T current, T updated, Class<T> type) {
+    throw readOnly("patch");
+  }
+
+  @Override
+  protected <T> T handlePatch(PatchContext patchContext, T current, String patchForUpdate, Class<T> type) {
+    throw readOnly("patch");
+  }
+
+  @Override
+  protected <T> T handleScale(String resourceUrl, T scale, Class<T> scaleType) {
+    throw readOnly("scale");
+  }
+
+  private KubernetesClientException readOnly(String operation) {
+    return new KubernetesClientException(operation + " is not supported for metadata only " + getResourceT()
+        + ", metadata only operations are read only");
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Splits a stream of bytes into newline delimited frames without decoding them.
+ * <br>
+ * Frames fully contained in a single buffer are passed to the consumer as a slice of that buffer. Only
+ * frames that span buffers are copied into an internal buffer, which is reused. The frame passed to the
+ * consumer is only valid for the duration of the call.
+ * <br>
+ * Not thread-safe, input is expected to be fed serially.
+ */
+class NewlineFramer {
+
+  private static final int INITIAL_CAPACITY = 1024;
+  // don't hold onto very large internal buffers after an unusually large frame
+  private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+  private final Consumer<ByteBuffer> frameConsumer;
+  private byte[] partial = new byte[0];
+  private int partialLength;
+
+  NewlineFramer(Consumer<ByteBuffer> frameConsumer) {
+    this.frameConsumer = frameConsumer;
+  }
+
+  /**
+   * Consume the remaining bytes of the buffer
+   */
+  void accept(ByteBuffer buffer) {
+    ByteBuffer source = buffer.duplicate();
+    int start = source.position();
+    int limit = source.limit();
+    for (int i = start; i < limit; i++) {
+      if (source.get(i) != '\n') {
+        continue;
+      }
+      if (partialLength == 0) {
+        source.limit(i).position(start);
+        frameConsumer.accept(source.slice());
+        source.limit(limit);
+      } else {
+        append(source, start, i);
+        source.limit(limit);
+        emitPartial();
+      }
+      start = i + 1;
+    }
+    if (start < limit) {
+      append(source, start, limit);
+    }
+    buffer.position(limit);
+  }
+
+  private void append(ByteBuffer source, int from, int to) {
+    int length = to - from;
+    if (partial.length < partialLength + length) {
+      partial = Arrays.copyOf(partial, Math.max(INITIAL_CAPACITY, Math.max(partial.length * 2, partialLength + length)));
+    }
+    source.limit(to).position(from);
+    source.get(partial, partialLength, length);
+    partialLength += length;
+  }
+
+  private void emitPartial() {
+    try {
+      frameConsumer.accept(ByteBuffer.wrap(partial, 0, partialLength));
+    } finally {
+      partialLength = 0;
+      if (partial.length > MAX_RETAINED_CAPACITY) {
+        partial = new byte[0];
+      }
+    }
+  }
+
+}
@@ -33,24 +33,30 @@ import io.fabric8.kubernetes.client.RequestConfigBuilder;
 import io.fabric8.kubernetes.client.dsl.FieldValidateable.Validation;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.kubernetes.client.http.AsyncBody;
+import io.fabric8.kubernetes.client.http.BufferUtil;
 import io.fabric8.kubernetes.client.http.HttpClient;
 import io.fabric8.kubernetes.client.http.HttpRequest;
 import io.fabric8.kubernetes.client.http.HttpResponse;
 import io.fabric8.kubernetes.client.impl.BaseClient;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.client.utils.StreamingListParser;
 import io.fabric8.kubernetes.client.utils.URLUtils;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -58,6 +64,7 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class OperationSupport {
 
@@ -463,7 +470,7 @@ public class OperationSupport {
    * @throws IOException IOException
    */
   protected <T> T handleGet(URL resourceUrl, Class<T> type) throws IOException {
-    HttpRequest.Builder requestBuilder = httpClient.newHttpRequestBuilder().url(resourceUrl);
+    HttpRequest.Builder requestBuilder = withAccept(httpClient.newHttpRequestBuilder().url(resourceUrl));
     return handleResponse(requestBuilder, type);
   }
 
@@ -478,6 +485,23 @@ public class OperationSupport {
     return builder.timeout(getRequestConfig().getRequestTimeout(), TimeUnit.MILLISECONDS);
   }
 
+  HttpRequest.Builder withAccept(HttpRequest.Builder builder) {
+    String accept = getAccept();
+    if (accept != null) {
+      builder.setHeader("Accept", accept);
+    }
+    return builder;
+  }
+
+  /**
+   * The Accept header to send with gets, lists and watches
+   *
+   * @return the header value, or null to not send one
+   */
+  protected String getAccept() {
+    return null;
+  }
+
   /**
    * Waits for the provided {@link CompletableFuture} to complete and returns the result in case of success.
    *
@@ -560,6 +584,104 @@ public class OperationSupport {
     });
   }
 
+  /**
+   * Send an http request and incrementally parse the list response, without buffering the whole response body.
+   *
+   * @param client the client
+   * @param requestBuilder Request builder
+   * @param parser the parser that will receive the response bytes
+   * @param items the dispatcher the parser hands its items to, which holds back reading while too many items are pending
+   * @param <L> the list type
+   *
+   * @return Returns the list, which will not contain the items already passed to the parser's consumer
+   */
+  protected <L> CompletableFuture<L> handleStreamingResponse(HttpClient client, HttpRequest.Builder requestBuilder,
+      StreamingListParser<L, ?> parser, ListItemDispatcher<?> items) {
+    VersionUsageUtils.log(this.resourceT, this.apiGroupVersion);
+    HttpRequest request = requestBuilder.build();
+    CompletableFuture<L> result = new CompletableFuture<>();
+    // collects the body of a failed response, null when the response is being parsed
+    AtomicReference<ByteArrayOutputStream> errorBody = new AtomicReference<>();
+
+    CompletableFuture<HttpResponse<AsyncBody>> call = client.consumeBytes(request, (buffers, asyncBody) -> {
+      try {
+        ByteArrayOutputStream error = errorBody.get();
+        for (ByteBuffer buffer : buffers) {
+          if (error != null) {
+            error.write(BufferUtil.toArray(buffer));
+          } else {
+            parser.feed(buffer);
+          }
+        }
+        RuntimeException failure = items.getFailure();
+        if (failure != null) {
+          throw failure;
+        }
+        items.request(asyncBody::consume);
+      } catch (Exception e) {
+        asyncBody.cancel();
+        result.completeExceptionally(e instanceof KubernetesClientException ? e : requestException(request, e));
+      }
+    });
+    call.whenComplete((response, t) -> {
+      if (t != null) {
+        result.completeExceptionally(t);
+        return;
+      }
+      AsyncBody body = response.body();
+      if (result.isDone()) {
+        body.cancel();
+        return;
+      }
+      boolean successful = response.isSuccessful();
+      if (successful) {
+        // logs any warnings
+        assertResponseCode(request, response);
+      } else {
+        errorBody.set(new ByteArrayOutputStream());
+      }
+      body.done().whenComplete((v, e) -> {
+        if (e != null) {
+          result.completeExceptionally(e);
+          return;
+        }
+        if (result.isDone()) {
+          return;
+        }
+        try {
+          if (!successful) {
+            throw requestFailure(request, createStatus(response.code(), response.message(),
+                errorBody.get().toString(StandardCharsets.UTF_8), getKubernetesSerialization()));
+          }
+          L list = parser.end();
+          // complete only after the consumer has seen every item
+          items.afterItems(() -> {
+            RuntimeException failure = items.getFailure();
+            if (failure == null) {
+              result.complete(list);
+            } else {
+              result.completeExceptionally(
+                  failure instanceof KubernetesClientException ? failure : requestException(request, failure));
+            }
+          });
+        } catch (KubernetesClientException ex) {
+          result.completeExceptionally(ex);
+        } catch (Exception ex) {
+          result.completeExceptionally(requestException(request, ex));
+        }
+      });
+      items.request(body::consume);
+    });
+    result.whenComplete((r, t) -> {
+      items.stop();
+      if (result.isCancelled()) {
+        call.cancel(true);
+        call.thenAccept(response -> response.body().cancel());
+      }
+    });
+    return result;
+  }
+
   /**
    * Checks if the response status code is the expected and throws the appropriate KubernetesClientException if not.
    *
@@ -583,30 +705,38 @@ public class OperationSupport {
   }
 
   public static Status createStatus(HttpResponse<?> response, KubernetesSerialization kubernetesSerialization) {
-    String statusMessage = "";
-    int statusCode = response != null ? response.code() : 0;
     if (response == null) {
-      statusMessage = "No response";
-    } else {
-      try {
-        String bodyString = response.bodyString();
-        if (Utils.isNotNullOrEmpty(bodyString)) {
-          Status status = kubernetesSerialization.unmarshal(bodyString, Status.class);
-          if (status != null) {
-            if (status.getCode() == null) {
-              status = new StatusBuilder(status).withCode(statusCode).build();
-            }
-            return status;
+      return createStatus(0, "No response");
+    }
+    String bodyString = null;
+    try {
+      bodyString = response.bodyString();
+    } catch (IOException e) {
+      LOG.debug("Exception convertion response to Status", e);
+    }
+    return createStatus(response.code(), response.message(), bodyString, kubernetesSerialization);
+  }
+
+  /**
+   * Create a {@link Status} from the body of a failed response, falling back to the status code and message
+   * if the body is not a {@link Status}
+   */
+  public static Status createStatus(int statusCode, String message, String bodyString,
+      KubernetesSerialization kubernetesSerialization) {
+    try {
+      if (Utils.isNotNullOrEmpty(bodyString)) {
+        Status status = kubernetesSerialization.unmarshal(bodyString, Status.class);
+        if (status != null) {
+          if (status.getCode() == null) {
+            status = new StatusBuilder(status).withCode(statusCode).build();
           }
+          return status;
         }
-      } catch (IOException | RuntimeException e) {
-        LOG.debug("Exception convertion response to Status", e);
-      }
-      if (response.message() != null) {
-        statusMessage = response.message();
       }
+    } catch (RuntimeException e) {
+      LOG.debug("Exception convertion response to Status", e);
     }
-    return createStatus(statusCode, statusMessage);
+    return createStatus(statusCode, message != null ? message : "");
   }
 
   public static Status createStatus(int statusCode, String message) {
@@ -37,6 +37,7 @@ import io.fabric8.kubernetes.client.dsl.internal.OperationContext;
 import io.fabric8.kubernetes.client.dsl.internal.OperationSupport;
 import io.fabric8.kubernetes.client.extension.ExtensionAdapter;
 import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.informers.impl.InformerRegistry;
 import io.fabric8.kubernetes.client.utils.ApiVersionUtil;
 import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import io.fabric8.kubernetes.client.utils.Utils;
@@ -95,6 +96,7 @@ public abstract class BaseClient implements Client {
   protected KubernetesSerialization kubernetesSerialization;
   private CompletableFuture<Void> closed;
   private Set<AutoCloseable> closable;
+  private InformerRegistry informerRegistry;
 
   private OperationContext operationContext;
 
@@ -109,6 +111,7 @@ public abstract class BaseClient implements Client {
     this.executor = baseClient.executor;
     this.kubernetesSerialization = baseClient.kubernetesSerialization;
     this.closable = baseClient.closable;
+    this.informerRegistry = baseClient.informerRegistry;
     setDerivedFields();
     if (baseClient.operationContext != null) {
       operationContext(baseClient.operationContext);
@@ -119,6 +122,7 @@ public abstract class BaseClient implements Client {
       KubernetesSerialization kubernetesSerialization) {
     this.closable = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
     this.closed = new CompletableFuture<>();
+    this.informerRegistry = new InformerRegistry();
     this.config = config;
     this.httpClient = httpClient;
     this.handlers = new Handlers();
@@ -175,6 +179,13 @@ public abstract class BaseClient implements Client {
     }
   }
 
+  /**
+   * @return the registry of the informers shared by this client and the clients derived from it
+   */
+  public InformerRegistry getInformerRegistry() {
+    return informerRegistry;
+  }
+
   public CompletableFuture<Void> getClosed() {
     return closed;
   }
@@ -18,7 +18,9 @@ package io.fabric8.kubernetes.client.informers.impl;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.EventQueueStatus;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Indexer;
@@ -32,6 +34,10 @@ import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -39,8 +45,10 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 public class DefaultSharedIndexInformer<T extends HasMetadata, L extends KubernetesResourceList<T>>
@@ -58,9 +66,15 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   // value).
   private final long defaultEventHandlerResyncPeriod;
 
+  // default number of namespaces whose initial list/watch may be in flight at once
+  public static final int DEFAULT_START_CONCURRENCY = 8;
+
+  // one per namespace, or a single reflector for one namespace or all namespaces
+  private final Map<String, Reflector<T, L>> reflectors = new LinkedHashMap<>();
   private final Reflector<T, L> reflector;
   private final Class<T> apiTypeClass;
   private final ProcessorStore<T> processorStore;
+  private final List<ProcessorStore<T>> processorStores = new ArrayList<>();
   private final CacheImpl<T> indexer = new CacheImpl<>();
   private final SharedProcessor<T> processor;
   private final Executor informerExecutor;
@@ -72,23 +86,69 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   private Future<?> resyncFuture;
 
   private Stream<T> initialState;
+  private Map<String, String> initialResourceVersions;
+
+  private int startConcurrency = DEFAULT_START_CONCURRENCY;
+  private final CompletableFuture<Void> startFuture;
+  private final CompletableFuture<Void> stopFuture;
 
   public DefaultSharedIndexInformer(Class<T> apiTypeClass, ListerWatcher<T, L> listerWatcher, long resyncPeriod,
       Executor informerExecutor) {
+    this(apiTypeClass, Collections.singletonMap(null, listerWatcher), resyncPeriod, informerExecutor);
+  }
+
+  /**
+   * Create an informer that runs a list/watch for each namespace, all feeding the same cache and handlers.
+   *
+   * @param apiTypeClass the type
+   * @param listerWatchers the {@link ListerWatcher} for each namespace
+   * @param resyncPeriod the resync period or 0 for no resync
+   * @param informerExecutor the executor
+   */
+  public DefaultSharedIndexInformer(Class<T> apiTypeClass, Map<String, ? extends ListerWatcher<T, L>> listerWatchers,
+      long resyncPeriod, Executor informerExecutor) {
     if (resyncPeriod < 0) {
       throw new IllegalArgumentException("Invalid resync period provided, It should be a non-negative value");
     }
+    if (listerWatchers.isEmpty()) {
+      throw new IllegalArgumentException("At least one namespace must be provided");
+    }
     this.resyncCheckPeriodMillis = resyncPeriod;
     this.defaultEventHandlerResyncPeriod = resyncPeriod;
     this.apiTypeClass = apiTypeClass;
-    this.description = listerWatcher.getApiEndpointPath();
+    ListerWatcher<T, L> first = listerWatchers.values().iterator().next();
+    this.description = listerWatchers.size() == 1 ? first.getApiEndpointPath()
+        : first.getApiEndpointPath() + " and " + (listerWatchers.size() - 1) + " other namespaces";
 
     this.informerExecutor = informerExecutor;
-    // reuse the informer executor, but ensure serial processing
-    this.processor = new SharedProcessor<>(informerExecutor, description);
-
-    processorStore = new ProcessorStore<>(this.indexer, this.processor);
-    this.reflector = new Reflector<>(listerWatcher, processorStore, informerExecutor);
+    // reuse the informer executor, each handler is processed serially in its own lane
+    this.processor = new SharedProcessor<>(informerExecutor, description, this.indexer::getKey, this.indexer::getByKey);
+
+    AtomicInteger unsyncedNamespaces = listerWatchers.size() == 1 ? null : new AtomicInteger(listerWatchers.size());
+    listerWatchers.forEach((namespace, listerWatcher) -> {
+      // each namespace only reconciles its own part of the cache
+      ProcessorStore<T> store = new ProcessorStore<>(this.indexer, this.processor,
+          listerWatchers.size() == 1 ? null : namespace, unsyncedNamespaces);
+      this.processorStores.add(store);
+      this.reflectors.put(namespace, new Reflector<>(listerWatcher, store, informerExecutor));
+    });
+    this.processorStore = this.processorStores.get(0);
+    this.reflector = this.reflectors.values().iterator().next();
+    if (this.reflectors.size() == 1) {
+      this.startFuture = reflector.getStartFuture();
+      this.stopFuture = reflector.getStopFuture();
+    } else {
+      this.startFuture = CompletableFuture.allOf(reflectors.values().stream().map(Reflector::getStartFuture)
+          .toArray(CompletableFuture[]::new));
+      this.stopFuture = CompletableFuture.anyOf(reflectors.values().stream().map(Reflector::getStopFuture)
+          .toArray(CompletableFuture[]::new)).thenApply(ignored -> (Void) null);
+      // a failed namespace stops the whole informer, as it would for a single namespace
+      this.stopFuture.whenComplete((ignored, t) -> {
+        if (t != null) {
+          stop();
+        }
+      });
+    }
   }
 
   /**
@@ -151,11 +211,29 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return this;
   }
 
+  /**
+   * For multiple namespaces, this is null until every namespace has synced, then it is the version of
+   * the first namespace. The versions are not comparable, so use {@link #lastSyncResourceVersions()} to
+   * resume.
+   */
   @Override
   public String lastSyncResourceVersion() {
+    for (Reflector<T, L> namespaceReflector : reflectors.values()) {
+      if (namespaceReflector.getLastSyncResourceVersion() == null) {
+        return null;
+      }
+    }
     return this.reflector.getLastSyncResourceVersion();
   }
 
+  @Override
+  public Map<String, String> lastSyncResourceVersions() {
+    Map<String, String> result = new LinkedHashMap<>();
+    reflectors.forEach((namespace, namespaceReflector) -> result.put(namespace,
+        namespaceReflector.getLastSyncResourceVersion()));
+    return result;
+  }
+
   @Override
   public CompletableFuture<Void> start() {
     if (stopped) {
@@ -163,12 +241,20 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     }
     synchronized (this) {
       if (!started.compareAndSet(false, true)) {
-        return reflector.getStartFuture();
+        return startFuture;
       }
 
       if (initialState != null) {
-        initialState.forEach(indexer::put);
-        reflector.usingInitialState();
+        initialState.map(processorStore::transform).forEach(indexer::put);
+        // each namespace resumes from its own version
+        reflectors.forEach((namespace, r) -> {
+          String resourceVersion = initialResourceVersion(namespace);
+          if (resourceVersion != null) {
+            r.usingInitialState(resourceVersion);
+          } else {
+            r.usingInitialState();
+          }
+        });
       }
     }
 
@@ -176,11 +262,58 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
     scheduleResync(processor::shouldResync);
 
-    return reflector.start();
+    if (reflectors.size() == 1) {
+      return reflector.start();
+    }
+    // bound the number of initial lists in flight
+    Iterator<Reflector<T, L>> pending = new ArrayList<>(reflectors.values()).iterator();
+    for (int i = 0; i < Math.min(startConcurrency, reflectors.size()); i++) {
+      startNext(pending);
+    }
+    return startFuture;
+  }
+
+  private String initialResourceVersion(String namespace) {
+    if (initialResourceVersions == null) {
+      return null;
+    }
+    if (reflectors.size() == 1 && initialResourceVersions.size() == 1) {
+      // a single list/watch, regardless of how it was keyed
+      return initialResourceVersions.values().iterator().next();
+    }
+    return initialResourceVersions.get(namespace);
+  }
+
+  private void startNext(Iterator<Reflector<T, L>> pending) {
+    Reflector<T, L> next;
+    synchronized (pending) {
+      if (!pending.hasNext()) {
+        return;
+      }
+      next = pending.next();
+    }
+    next.start().whenComplete((ignored, t) -> startNext(pending));
   }
 
   public CompletableFuture<Void> started() {
-    return reflector.getStartFuture();
+    return startFuture;
+  }
+
+  /**
+   * Set the maximum number of namespaces that may be starting at once, the default is {@link #DEFAULT_START_CONCURRENCY}
+   *
+   * @param startConcurrency the maximum number of concurrent starts, must be positive
+   * @return this
+   */
+  public synchronized DefaultSharedIndexInformer<T, L> startConcurrency(int startConcurrency) {
+    if (startConcurrency < 1) {
+      throw new IllegalArgumentException("startConcurrency must be positive");
+    }
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting start concurrency");
+    }
+    this.startConcurrency = startConcurrency;
+    return this;
   }
 
   @Override
@@ -192,7 +325,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
   @Override
   public synchronized void stop() {
     stopped = true;
-    reflector.stop();
+    reflectors.values().forEach(Reflector::stop);
     stopResync();
     processor.stop();
   }
@@ -233,12 +366,12 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   @Override
   public boolean isRunning() {
-    return !stopped && started.get() && !reflector.isStopped();
+    return !stopped && started.get() && reflectors.values().stream().noneMatch(Reflector::isStopped);
   }
 
   @Override
   public boolean isWatching() {
-    return reflector.isWatching();
+    return reflectors.values().stream().allMatch(Reflector::isWatching);
   }
 
   synchronized void scheduleResync(BooleanSupplier resyncFunc) {
@@ -280,10 +413,16 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   @Override
   public synchronized SharedIndexInformer<T> initialState(Stream<T> items) {
+    return initialState(items, null);
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> initialState(Stream<T> items, Map<String, String> resourceVersions) {
     if (started.get()) {
       throw new KubernetesClientException("Informer cannot be running when initial state is added");
     }
     this.initialState = items;
+    this.initialResourceVersions = resourceVersions;
     return this;
   }
 
@@ -296,6 +435,41 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     return this;
   }
 
+  @Override
+  public synchronized SharedIndexInformer<T> transform(UnaryOperator<T> transform) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting the transform");
+    }
+    this.processorStores.forEach(store -> store.setTransform(transform));
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> watchList(boolean watchList) {
+    if (started.get()) {
+      throw new KubernetesClientException("Informer cannot be running when setting watch list");
+    }
+    this.reflectors.values().forEach(r -> r.setWatchList(watchList));
+    return this;
+  }
+
+  @Override
+  public SharedIndexInformer<T> eventQueue(int capacity, QueueOverflowPolicy policy) {
+    this.processor.setQueue(capacity, policy);
+    return this;
+  }
+
+  @Override
+  public SharedIndexInformer<T> coalesceEvents(boolean coalesce) {
+    this.processor.setCoalescing(coalesce);
+    return this;
+  }
+
+  @Override
+  public List<EventQueueStatus> getEventQueueStatus() {
+    return this.processor.getEventQueueStatus();
+  }
+
   @Override
   public String toString() {
     return this.description;
@@ -303,7 +477,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
 
   @Override
   public CompletableFuture<Void> stopped() {
-    return this.reflector.getStopFuture();
+    return stopFuture;
   }
 
   @Override
@@ -311,7 +485,7 @@ public class DefaultSharedIndexInformer<T extends HasMetadata, L extends Kuberne
     if (started.get()) {
       throw new KubernetesClientException("Informer cannot be running when handler is set");
     }
-    this.reflector.setExceptionHandler(handler);
+    this.reflectors.values().forEach(r -> r.setExceptionHandler(handler));
     return this;
   }
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Shares running informers between the users of a client, so that identical requests do not create
+ * duplicate watches and caches.
+ * <p>
+ * Informers are keyed by the resource, namespace, selectors and configuration they were requested with. Each
+ * caller gets its own view of the informer, and the informer is stopped once every view has been stopped.
+ */
+public class InformerRegistry {
+
+  static final class Entry {
+    private final String key;
+    // completed by the caller that creates the informer, outside of the registry lock
+    private final CompletableFuture<SharedIndexInformer<?>> informer = new CompletableFuture<>();
+    private int references;
+
+    Entry(String key) {
+      this.key = key;
+    }
+
+    private boolean isStopped() {
+      return informer.isCompletedExceptionally()
+          || (informer.isDone() && informer.join().stopped().toCompletableFuture().isDone());
+    }
+  }
+
+  private final Map<String, Entry> informers = new HashMap<>();
+
+  /**
+   * Get a view of the informer for the given key, creating and starting the informer if needed.
+   *
+   * @param key the identity of the informer
+   * @param factory creates a configured, but not yet started informer
+   * @return a view that should be stopped when no longer needed
+   */
+  public <T> SharedIndexInformer<T> acquire(String key, Supplier<SharedIndexInformer<T>> factory) {
+    final Entry entry;
+    boolean create = false;
+    synchronized (this) {
+      Entry existing = informers.get(key);
+      if (existing == null || existing.isStopped()) {
+        // not yet created, or stopped due to an error
+        existing = new Entry(key);
+        informers.put(key, existing);
+        create = true;
+      }
+      existing.references++;
+      entry = existing;
+    }
+    if (create) {
+      final SharedIndexInformer<T> created;
+      try {
+        created = factory.get();
+      } catch (RuntimeException e) {
+        synchronized (this) {
+          informers.remove(key, entry);
+        }
+        entry.informer.completeExceptionally(e);
+        throw e;
+      }
+      entry.informer.complete(created);
+      created.start();
+    }
+    return new SharedInformerView<>(this, entry, informerOf(entry));
+  }
+
+  /**
+   * The key identifies the resource type, so the informer of an entry always has the requested type
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> SharedIndexInformer<T> informerOf(Entry entry) {
+    try {
+      return (SharedIndexInformer<T>) entry.informer.join();
+    } catch (CompletionException e) {
+      throw KubernetesClientException.launderThrowable(e.getCause());
+    }
+  }
+
+  void release(Entry entry) {
+    synchronized (this) {
+      if (--entry.references != 0) {
+        return;
+      }
+      informers.remove(entry.key, entry);
+    }
+    entry.informer.thenAccept(SharedIndexInformer::stop);
+  }
+
+  /**
+   * @return the number of running shared informers
+   */
+  public synchronized int size() {
+    return informers.size();
+  }
+
+}
@@ -19,8 +19,11 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * ListerWatcher is any object that knows how to perform an initial list and
@@ -34,9 +37,39 @@ public interface ListerWatcher<T extends HasMetadata, L> {
 
   CompletableFuture<L> submitList(ListOptions listOptions);
 
+  /**
+   * Submit a list request, passing each item to the consumer as soon as it has been parsed rather
+   * than buffering the whole response.
+   *
+   * @param listOptions the list options
+   * @param itemConsumer the consumer of the items, called serially; the future completes only after it has seen
+   *        every item
+   * @param itemExecutor the executor the consumer is called on, so that it never blocks the http client thread
+   * @return the future list, which does not contain the items and should only be used for its metadata
+   */
+  CompletableFuture<L> submitList(ListOptions listOptions, Consumer<T> itemConsumer, Executor itemExecutor);
+
   Long getLimit();
 
   int getWatchReconnectInterval();
 
   String getApiEndpointPath();
+
+  /**
+   * @return the plural resource name, for reporting metrics
+   */
+  default String getResourceT() {
+    return null;
+  }
+
+  /**
+   * @return the namespace, or null if not namespaced or across all namespaces
+   */
+  default String getNamespace() {
+    return null;
+  }
+
+  default ClientMetrics getClientMetrics() {
+    return ClientMetrics.NOOP;
+  }
 }
@@ -30,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -94,6 +95,21 @@ public class SharedInformerFactoryImpl implements SharedInformerFactory {
     return informer;
   }
 
+  @Override
+  public synchronized <T extends HasMetadata> SharedIndexInformer<T> sharedIndexInformerFor(Class<T> apiTypeClass,
+      long resyncPeriodInMillis, Collection<String> namespaces) {
+    MixedOperation<T, KubernetesResourceList<T>, Resource<T>> resources = client.resources(apiTypeClass);
+
+    Informable<T> informable = resources;
+    if (name != null) {
+      informable = resources.withName(name);
+    }
+
+    SharedIndexInformer<T> informer = informable.runnableInformer(namespaces, resyncPeriodInMillis);
+    this.informers.add(informer);
+    return informer;
+  }
+
   @Override
   public synchronized <T> SharedIndexInformer<T> getExistingSharedIndexInformer(Class<T> apiTypeClass) {
     for (SharedIndexInformer<?> informer : this.informers) {
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.informers.impl;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.EventQueueStatus;
+import io.fabric8.kubernetes.client.informers.ExceptionHandler;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Store;
+import io.fabric8.kubernetes.client.utils.Utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * A reference to an informer shared through the {@link InformerRegistry}.
+ * <p>
+ * Stopping the view removes the handlers it added and releases its reference, rather than stopping the
+ * shared informer. As the informer is shared with other views, the methods that would change its configuration
+ * throw a {@link KubernetesClientException} - configure it with
+ * {@link io.fabric8.kubernetes.client.dsl.Informable#sharedInformer(String, java.util.function.Consumer)} instead.
+ */
+class SharedInformerView<T> implements SharedIndexInformer<T> {
+
+  private final InformerRegistry registry;
+  private final InformerRegistry.Entry entry;
+  private final SharedIndexInformer<T> informer;
+  private final Set<ResourceEventHandler<? super T>> handlers = ConcurrentHashMap.newKeySet();
+  private final CompletableFuture<Void> stopped = new CompletableFuture<>();
+
+  SharedInformerView(InformerRegistry registry, InformerRegistry.Entry entry, SharedIndexInformer<T> informer) {
+    this.registry = registry;
+    this.entry = entry;
+    this.informer = informer;
+    informer.stopped().whenComplete((v, t) -> {
+      if (t != null) {
+        stopped.completeExceptionally(t);
+      } else {
+        stopped.complete(null);
+      }
+    });
+  }
+
+  private static KubernetesClientException cannotConfigure(String what) {
+    return new KubernetesClientException("Cannot " + what + " on a shared informer, configure it with "
+        + "sharedInformer(configurationKey, configuration) or use withIndexers instead");
+  }
+
+  @Override
+  public SharedIndexInformer<T> addIndexers(Map<String, Function<T, List<String>>> indexers) {
+    throw cannotConfigure("add indexers");
+  }
+
+  @Override
+  public SharedIndexInformer<T> removeIndexer(String name) {
+    throw cannotConfigure("remove an indexer");
+  }
+
+  @Override
+  public Indexer<T> getIndexer() {
+    return informer.getIndexer();
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> addEventHandler(ResourceEventHandler<? super T> handler) {
+    checkNotStopped();
+    handlers.add(handler);
+    informer.addEventHandler(handler);
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> removeEventHandler(ResourceEventHandler<? super T> handler) {
+    // handlers added through other views are left alone
+    if (handlers.remove(handler)) {
+      informer.removeEventHandler(handler);
+    }
+    return this;
+  }
+
+  @Override
+  public synchronized SharedIndexInformer<T> addEventHandlerWithResyncPeriod(ResourceEventHandler<? super T> handle,
+      long resyncPeriod) {
+    checkNotStopped();
+    handlers.add(handle);
+    informer.addEventHandlerWithResyncPeriod(handle, resyncPeriod);
+    return this;
+  }
+
+  private void checkNotStopped() {
+    if (stopped.isDone()) {
+      throw new KubernetesClientException("Cannot add a handler to a stopped shared informer");
+    }
+  }
+
+  @Override
+  public SharedIndexInformer<T> run() {
+    Utils.waitUntilReadyOrFail(start().toCompletableFuture(), -1, TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  @Override
+  public void stop() {
+    synchronized (this) {
+      if (!stopped.complete(null)) {
+        return;
+      }
+      handlers.forEach(informer::removeEventHandler);
+      handlers.clear();
+    }
+    registry.release(entry);
+  }
+
+  @Override
+  public String lastSyncResourceVersion() {
+    return informer.lastSyncResourceVersion();
+  }
+
+  @Override
+  public Map<String, String> lastSyncResourceVersions() {
+    return informer.lastSyncResourceVersions();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return !stopped.isDone() && informer.isRunning();
+  }
+
+  @Override
+  public Class<T> getApiTypeClass() {
+    return informer.getApiTypeClass();
+  }
+
+  @Override
+  public boolean isWatching() {
+    return !stopped.isDone() && informer.isWatching();
+  }
+
+  @Override
+  public Store<T> getStore() {
+    return informer.getStore();
+  }
+
+  @Override
+  public SharedIndexInformer<T> initialState(Stream<T> items) {
+    throw cannotConfigure("set the initial state");
+  }
+
+  @Override
+  public SharedIndexInformer<T> initialState(Stream<T> items, Map<String, String> resourceVersions) {
+    throw cannotConfigure("set the initial state");
+  }
+
+  @Override
+  public SharedIndexInformer<T> itemStore(ItemStore<T> itemStore) {
+    throw cannotConfigure("set the item store");
+  }
+
+  @Override
+  public SharedIndexInformer<T> transform(UnaryOperator<T> transform) {
+    throw cannotConfigure("set the transform");
+  }
+
+  @Override
+  public SharedIndexInformer<T> watchList(boolean watchList) {
+    throw cannotConfigure("set watch list");
+  }
+
+  @Override
+  public SharedIndexInformer<T> eventQueue(int capacity, QueueOverflowPolicy policy) {
+    throw cannotConfigure("set the event queue");
+  }
+
+  @Override
+  public SharedIndexInformer<T> coalesceEvents(boolean coalesce) {
+    throw cannotConfigure("coalesce events");
+  }
+
+  @Override
+  public List<EventQueueStatus> getEventQueueStatus() {
+    return informer.getEventQueueStatus();
+  }
+
+  @Override
+  public CompletionStage<Void> start() {
+    return informer.start();
+  }
+
+  @Override
+  public SharedIndexInformer<T> exceptionHandler(ExceptionHandler handler) {
+    throw cannotConfigure("set the exception handler");
+  }
+
+  @Override
+  public CompletionStage<Void> stopped() {
+    return stopped;
+  }
+
+  @Override
+  public String toString() {
+    return informer.toString();
+  }
+
+}
@@ -16,14 +16,19 @@
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.informers.cache.LabelSelectorMatcher;
 import io.fabric8.kubernetes.client.utils.Utils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -32,61 +37,132 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * It basically saves and indexes all the entries.
  * <br>
+ * Writes are serialized per key using striped locks rather than a single lock for the whole cache, so
+ * writers of different keys do not contend. Only changes to the indexers themselves are globally exclusive.
+ * Concurrent writers therefore require the {@link ItemStore} to be concurrent, which all of the provided
+ * implementations are - writes to a store that is not {@link ItemStore#isConcurrent()} all use the same lock.
+ * <br>
  * Index reads {@link #byIndex(String, String)}, {@link #indexKeys(String, String)}, {@link #index(String, HasMetadata)}
- * are not globally locked and thus may not be fully consistent with the current state
+ * are not locked and thus may not be fully consistent with the current state. They are served from versioned
+ * snapshots of each index value, which are only rebuilt after that index value has been modified.
+ * <br>
+ * Label selector queries intersect the keys of the label indexes added by {@link #addLabelIndexes(String...)}
+ * before visiting any object.
  *
  * @param <T> type for cache object
  */
 public class CacheImpl<T extends HasMetadata> implements Cache<T> {
 
+  private static final int LOCK_STRIPES = 64;
+
+  private static final class Snapshot {
+    private final int version;
+    private final List<String> keys;
+
+    Snapshot(int version, List<String> keys) {
+      this.version = version;
+      this.keys = keys;
+    }
+  }
+
+  private static final class IndexValue {
+    private final Set<String> keys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger version = new AtomicInteger();
+    private volatile Snapshot snapshot;
+
+    void update(String key, boolean remove) {
+      boolean changed = remove ? keys.remove(key) : keys.add(key);
+      if (changed) {
+        version.incrementAndGet();
+      }
+    }
+
+    List<String> snapshot() {
+      // read the version first, so that a snapshot is never labeled as newer than its contents
+      int current = version.get();
+      Snapshot result = snapshot;
+      if (result == null || result.version != current) {
+        result = new Snapshot(current, Collections.unmodifiableList(new ArrayList<>(keys)));
+        snapshot = result;
+      }
+      return result.keys;
+    }
+  }
+
   private static class Index {
-    private Map<Object, Set<String>> values = new ConcurrentHashMap<Object, Set<String>>();
+    private final Map<Object, IndexValue> values = new ConcurrentHashMap<>();
 
     public void update(String indexKey, String key, boolean remove) {
       if (remove) {
         values.computeIfPresent(indexKey == null ? this : indexKey, (k, v) -> {
-          v.remove(key);
-          return v.isEmpty() ? null : v;
+          v.update(key, true);
+          return v.keys.isEmpty() ? null : v;
         });
       } else {
-        values.computeIfAbsent(indexKey == null ? this : indexKey, k -> ConcurrentHashMap.newKeySet()).add(key);
+        values.compute(indexKey == null ? this : indexKey, (k, v) -> {
+          if (v == null) {
+            v = new IndexValue();
+          }
+          v.update(key, false);
+          return v;
+        });
       }
     }
 
-    public Set<String> get(String indexKey) {
-      return values.getOrDefault(indexKey == null ? this : indexKey, Collections.emptySet());
+    public List<String> get(String indexKey) {
+      IndexValue value = values.get(indexKey == null ? this : indexKey);
+      return value == null ? Collections.emptyList() : value.snapshot();
+    }
+
+    public Set<String> keys(String indexKey) {
+      IndexValue value = values.get(indexKey == null ? this : indexKey);
+      return value == null ? Collections.emptySet() : value.keys;
     }
   }
 
   // NAMESPACE_INDEX is the default index function for caching objects
   public static final String NAMESPACE_INDEX = "namespace";
 
+  // prefix of the names of the indexes maintained by addLabelIndexes
+  public static final String LABEL_INDEX_PREFIX = "label:";
+
   // indexers stores index functions by their names
-  private final Map<String, Function<T, List<String>>> indexers = Collections.synchronizedMap(new HashMap<>());
+  private final Map<String, Function<T, List<String>>> indexers = new ConcurrentHashMap<>();
 
   // items stores object instances
   private ItemStore<T> items;
+  private boolean concurrentItems;
 
   // indices stores objects' key by their indices
   private final ConcurrentMap<String, Index> indices = new ConcurrentHashMap<>();
 
+  // locks serializing the writes of keys with the same hash
+  private final Object[] locks = new Object[LOCK_STRIPES];
+
   public CacheImpl() {
     this(NAMESPACE_INDEX, Cache::metaNamespaceIndexFunc, Cache::metaNamespaceKeyFunc);
   }
 
   public CacheImpl(String indexName, Function<T, List<String>> indexFunc, Function<T, String> keyFunc) {
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new Object();
+    }
     this.items = new BasicItemStore<>(keyFunc);
+    this.concurrentItems = items.isConcurrent();
     addIndexFunc(indexName, indexFunc);
   }
 
   public void setItemStore(ItemStore<T> items) {
     this.items = items;
+    this.concurrentItems = items.isConcurrent();
   }
 
   /**
@@ -96,22 +172,22 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    */
   @Override
   public Map<String, Function<T, List<String>>> getIndexers() {
-    synchronized (indexers) {
-      return Collections.unmodifiableMap(indexers);
-    }
+    return Collections.unmodifiableMap(indexers);
   }
 
   @Override
-  public synchronized void addIndexers(Map<String, Function<T, List<String>>> indexersNew) {
-    Set<String> intersection = new HashSet<>(indexers.keySet());
-    intersection.retainAll(indexersNew.keySet());
-    if (!intersection.isEmpty()) {
-      throw new IllegalArgumentException("Indexer conflict: " + intersection);
-    }
+  public void addIndexers(Map<String, Function<T, List<String>>> indexersNew) {
+    runExclusive(() -> {
+      Set<String> intersection = new HashSet<>(indexers.keySet());
+      intersection.retainAll(indexersNew.keySet());
+      if (!intersection.isEmpty()) {
+        throw new IllegalArgumentException("Indexer conflict: " + intersection);
+      }
 
-    for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexersNew.entrySet()) {
-      addIndexFunc(indexEntry.getKey(), indexEntry.getValue());
-    }
+      for (Map.Entry<String, Function<T, List<String>>> indexEntry : indexersNew.entrySet()) {
+        addIndexFunc(indexEntry.getKey(), indexEntry.getValue());
+      }
+    });
   }
 
   /**
@@ -120,14 +196,16 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param obj the object
    * @return the old object
    */
-  public synchronized T put(T obj) {
+  public T put(T obj) {
     if (obj == null) {
       return null;
     }
     String key = getKey(obj);
-    T oldObj = this.items.put(key, obj);
-    this.updateIndices(oldObj, obj, key);
-    return oldObj;
+    synchronized (lockFor(key)) {
+      T oldObj = this.items.put(key, obj);
+      this.updateIndices(oldObj, obj, key);
+      return oldObj;
+    }
   }
 
   /**
@@ -136,13 +214,53 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param obj object
    * @return the old object
    */
-  public synchronized T remove(T obj) {
-    String key = getKey(obj);
-    T old = this.items.remove(key);
-    if (old != null) {
-      this.updateIndices(old, null, key);
+  public T remove(T obj) {
+    return removeByKey(getKey(obj));
+  }
+
+  /**
+   * Delete the object with the given key.
+   *
+   * @param key the key
+   * @return the old object
+   */
+  public T removeByKey(String key) {
+    synchronized (lockFor(key)) {
+      T old = this.items.remove(key);
+      if (old != null) {
+        this.updateIndices(old, null, key);
+      }
+      return old;
+    }
+  }
+
+  private Object lockFor(String key) {
+    if (!concurrentItems) {
+      return locks[0];
+    }
+    int h = key.hashCode();
+    return locks[(h ^ (h >>> 16)) & (LOCK_STRIPES - 1)];
+  }
+
+  /**
+   * Run the given action while excluding all writes to the cache.
+   *
+   * @param action the action to run
+   */
+  public void runExclusive(Runnable action) {
+    synchronized (getLockObject()) {
+      runExclusive(0, action);
+    }
+  }
+
+  private void runExclusive(int stripe, Runnable action) {
+    if (stripe == locks.length) {
+      action.run();
+      return;
+    }
+    synchronized (locks[stripe]) {
+      runExclusive(stripe + 1, action);
     }
-    return old;
   }
 
   /**
@@ -167,6 +285,17 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     return this.getByKey(key);
   }
 
+  /**
+   * Get the resourceVersion of the object with the given key, without restoring the object if the
+   * item store allows
+   *
+   * @param key specific key
+   * @return the resourceVersion, or null if there is no such object
+   */
+  public String getResourceVersion(String key) {
+    return this.items.getResourceVersion(key);
+  }
+
   /**
    * Get the key for the given object
    */
@@ -220,10 +349,13 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     return getItems(returnKeySet);
   }
 
-  private List<T> getItems(Set<String> returnKeySet) {
+  private List<T> getItems(Collection<String> returnKeySet) {
     List<T> items = new ArrayList<>(returnKeySet.size());
     for (String absoluteKey : returnKeySet) {
-      Optional.ofNullable(this.items.get(absoluteKey)).ifPresent(items::add);
+      T item = this.items.get(absoluteKey);
+      if (item != null) {
+        items.add(item);
+      }
     }
     return items;
   }
@@ -259,10 +391,109 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
     return getItems(index.get(indexKey));
   }
 
+  @Override
+  public void addLabelIndexes(String... labelKeys) {
+    runExclusive(() -> {
+      for (String labelKey : labelKeys) {
+        String indexName = LABEL_INDEX_PREFIX + labelKey;
+        if (!this.indices.containsKey(indexName)) {
+          addIndexFunc(indexName, labelIndexFunc(labelKey));
+        }
+      }
+    });
+  }
+
+  private static <T extends HasMetadata> Function<T, List<String>> labelIndexFunc(String labelKey) {
+    return obj -> {
+      Map<String, String> labels = obj.getMetadata().getLabels();
+      String value = labels == null ? null : labels.get(labelKey);
+      return value == null ? Collections.emptyList() : Collections.singletonList(value);
+    };
+  }
+
+  @Override
+  public List<T> byLabelSelector(LabelSelector selector, Predicate<T> filter) {
+    return query(null, selector, filter);
+  }
+
+  @Override
+  public List<T> byIndex(String indexName, String indexKey, LabelSelector selector, Predicate<T> filter) {
+    return query(getIndex(indexName).keys(indexKey), selector, filter);
+  }
+
+  /**
+   * Intersect the keys of the given index value and of the label indexes referenced by the selector,
+   * starting from the smallest, so that only the candidate objects are visited. Every candidate is
+   * then checked against the full selector and filter.
+   * <br>
+   * Without any usable index this is a scan of all objects.
+   */
+  private List<T> query(Set<String> indexKeys, LabelSelector selector, Predicate<T> filter) {
+    List<Set<String>> postings = new ArrayList<>();
+    if (indexKeys != null) {
+      postings.add(indexKeys);
+    }
+    if (selector != null) {
+      addLabelPostings(selector, postings);
+    }
+    if (postings.isEmpty()) {
+      return this.items.values().filter(item -> matches(item, selector, filter)).collect(Collectors.toList());
+    }
+    postings.sort(Comparator.comparingInt(Set::size));
+    List<T> result = new ArrayList<>();
+    for (String key : postings.get(0)) {
+      if (containedInAll(key, postings)) {
+        T item = this.items.get(key);
+        if (item != null && matches(item, selector, filter)) {
+          result.add(item);
+        }
+      }
+    }
+    return result;
+  }
+
+  private void addLabelPostings(LabelSelector selector, List<Set<String>> postings) {
+    if (selector.getMatchLabels() != null) {
+      selector.getMatchLabels().forEach((labelKey, value) -> {
+        Index index = this.indices.get(LABEL_INDEX_PREFIX + labelKey);
+        if (index != null) {
+          postings.add(index.keys(value));
+        }
+      });
+    }
+    if (selector.getMatchExpressions() != null) {
+      for (LabelSelectorRequirement requirement : selector.getMatchExpressions()) {
+        Index index = this.indices.get(LABEL_INDEX_PREFIX + requirement.getKey());
+        // the negative operators and exists can't narrow the candidates
+        if (index != null && LabelSelectorMatcher.IN.equals(requirement.getOperator())
+            && requirement.getValues() != null) {
+          Set<String> keys = new HashSet<>();
+          requirement.getValues().forEach(value -> keys.addAll(index.keys(value)));
+          postings.add(keys);
+        }
+      }
+    }
+  }
+
+  private static boolean containedInAll(String key, List<Set<String>> postings) {
+    for (int i = 1; i < postings.size(); i++) {
+      if (!postings.get(i).contains(key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static <T extends HasMetadata> boolean matches(T item, LabelSelector selector, Predicate<T> filter) {
+    return (selector == null || LabelSelectorMatcher.matches(selector, item)) && (filter == null || filter.test(item));
+  }
+
   /**
    * UpdateIndices modifies the objects location in the managed indexes, if there is
    * an update, you must provide an oldObj
-   *
+   * <br>
+   * Only the index values that differ between the old and new object are touched, so
+   * the typical update does not invalidate any index snapshots.
    *
    * @param oldObj old object
    * @param newObj new object
@@ -274,22 +505,21 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
       Function<T, List<String>> indexFunc = indexEntry.getValue();
       Index index = this.indices.get(indexName);
       if (index != null) {
-        if (oldObj != null) {
-          updateIndex(key, oldObj, indexFunc, index, true);
-        }
-        if (newObj != null) {
-          updateIndex(key, newObj, indexFunc, index, false);
-        }
+        List<String> oldValues = oldObj == null ? null : indexFunc.apply(oldObj);
+        List<String> newValues = newObj == null ? null : indexFunc.apply(newObj);
+        updateIndex(key, oldValues, newValues, index, true);
+        updateIndex(key, newValues, oldValues, index, false);
       }
     }
   }
 
-  private void updateIndex(String key, T obj, Function<T, List<String>> indexFunc, Index index,
+  private void updateIndex(String key, List<String> indexValues, List<String> retainedValues, Index index,
       boolean remove) {
-    List<String> indexValues = indexFunc.apply(obj);
     if (indexValues != null && !indexValues.isEmpty()) {
       for (String indexValue : indexValues) {
-        index.update(indexValue, key, remove);
+        if (retainedValues == null || !retainedValues.contains(indexValue)) {
+          index.update(indexValue, key, remove);
+        }
       }
     }
   }
@@ -300,15 +530,17 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
    * @param indexName the index name
    * @param indexFunc the index func
    */
-  public synchronized CacheImpl<T> addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
-    if (this.indices.containsKey(indexName)) {
-      throw new IllegalArgumentException("Indexer conflict: " + indexName);
-    }
-    Index index = new Index();
-    this.indices.put(indexName, index);
-    this.indexers.put(indexName, indexFunc);
+  public CacheImpl<T> addIndexFunc(String indexName, Function<T, List<String>> indexFunc) {
+    runExclusive(() -> {
+      if (this.indices.containsKey(indexName)) {
+        throw new IllegalArgumentException("Indexer conflict: " + indexName);
+      }
+      Index index = new Index();
+      this.indices.put(indexName, index);
+      this.indexers.put(indexName, indexFunc);
 
-    items.values().forEach(v -> updateIndex(getKey(v), v, indexFunc, index, false));
+      items.values().forEach(v -> updateIndex(getKey(v), indexFunc.apply(v), null, index, false));
+    });
     return this;
   }
 
@@ -370,15 +602,20 @@ public class CacheImpl<T extends HasMetadata> implements Cache<T> {
   }
 
   @Override
-  public synchronized void removeIndexer(String name) {
-    this.indices.remove(name);
-    this.indexers.remove(name);
+  public void removeIndexer(String name) {
+    runExclusive(() -> {
+      this.indices.remove(name);
+      this.indexers.remove(name);
+    });
   }
 
   public boolean isFullState() {
     return items.isFullState();
   }
 
+  /**
+   * The monitor held by {@link #runExclusive(Runnable)}. Holding it alone does not exclude writes.
+   */
   public Object getLockObject() {
     return this;
   }
@@ -15,10 +15,28 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.client.informers.EventQueueStatus;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.jfr.ClientEvents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 /**
  * ProcessorListener implements Runnable interface. It's supposed to run in background
@@ -30,24 +48,361 @@ import java.time.temporal.ChronoUnit;
  * https://github.com/kubernetes/client-go/blob/master/tools/cache/shared_informer.go#L570
  *
  * <br>
- * Modified to execute loosely coupled from its processing thread
+ * Modified to execute loosely coupled from its processing thread. Each listener has its own
+ * serial lane of pending notifications, optionally bounded, that is drained using the supplied {@link Executor}
  *
  * @param <T> type of ProcessorListener
  */
-public class ProcessorListener<T> {
+public class ProcessorListener<T> implements EventQueueStatus {
+  private static final Logger log = LoggerFactory.getLogger(ProcessorListener.class);
+
+  private static class Entry<T> {
+    private Notification<T> notification;
+    private final Runnable operation;
+    private final String key;
+    private final long enqueuedNanos = System.nanoTime();
+
+    Entry(Notification<T> notification, Runnable operation, String key) {
+      this.notification = notification;
+      this.operation = operation;
+      this.key = key;
+    }
+  }
+
+  /**
+   * Runs its callback at most once, either from the lane or when the listener is stopped
+   */
+  private final class Barrier implements Runnable {
+    private final Runnable callback;
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    Barrier(Runnable callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void run() {
+      if (done.compareAndSet(false, true)) {
+        synchronized (ProcessorListener.this) {
+          barriers.remove(this);
+        }
+        callback.run();
+      }
+    }
+  }
+
   private long resyncPeriodInMillis;
   private ZonedDateTime nextResync;
   private ResourceEventHandler<? super T> handler;
 
+  private final Executor executor;
+  private final int capacity;
+  private final QueueOverflowPolicy overflowPolicy;
+  private final boolean coalesceAlways;
+  private final Function<T, String> keyFunction;
+  private final Function<String, T> itemLookup;
+  private final String informerDescription;
+
+  private final ArrayDeque<Entry<T>> queue = new ArrayDeque<>();
+  // the latest pending entry for each key, only maintained when coalescing
+  private final Map<String, Entry<T>> pendingByKey = new HashMap<>();
+  // pending callbacks that must still run if the listener is stopped
+  private final Set<Barrier> barriers = new LinkedHashSet<>();
+  // the last state the handler is known to have for each dropped key
+  private Map<String, T> dropped = new LinkedHashMap<>();
+  private Thread drainingThread;
+  private boolean draining;
+  private boolean stopped;
+  private long coalescedCount;
+  private long droppedCount;
+
   public ProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodInMillis) {
+    this(handler, resyncPeriodInMillis, Runnable::run, Integer.MAX_VALUE, QueueOverflowPolicy.BLOCK, false, null, null,
+        "informer");
+  }
+
+  /**
+   * Create a listener with its own lane of pending notifications
+   *
+   * @param handler the handler to notify
+   * @param resyncPeriodInMillis the resync period or 0 for no resync
+   * @param executor the executor used to drain the lane
+   * @param capacity the maximum number of pending notifications
+   * @param overflowPolicy what to do when the capacity is reached
+   * @param coalesceAlways true if notifications should be merged with a pending notification for the same key even if
+   *        the capacity has not been reached
+   * @param keyFunction the key function for notification objects, may be null if coalescing and dropping are not
+   *        supported
+   * @param itemLookup the lookup of the current state by key, may be null if dropping is not supported
+   * @param informerDescription used for logging
+   */
+  public ProcessorListener(ResourceEventHandler<? super T> handler, long resyncPeriodInMillis, Executor executor,
+      int capacity, QueueOverflowPolicy overflowPolicy, boolean coalesceAlways, Function<T, String> keyFunction,
+      Function<String, T> itemLookup, String informerDescription) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Invalid queue capacity provided, it should be a positive value");
+    }
     this.resyncPeriodInMillis = resyncPeriodInMillis;
     this.handler = handler;
+    this.executor = executor;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.coalesceAlways = coalesceAlways;
+    this.keyFunction = keyFunction;
+    this.itemLookup = itemLookup;
+    this.informerDescription = informerDescription;
 
     determineNextResync(ZonedDateTime.now());
   }
 
+  /**
+   * Add the notification to the lane. Depending upon the {@link QueueOverflowPolicy} this may block
+   * if the lane is full.
+   */
   public void add(Notification<T> notification) {
-    notification.handle(handler);
+    String key = null;
+    if (keyFunction != null && (coalesceAlways || overflowPolicy != QueueOverflowPolicy.BLOCK)) {
+      key = keyFunction.apply(notification.getOldObject() != null ? notification.getOldObject()
+          : notification.getNewObject());
+    }
+    enqueue(notification, key);
+  }
+
+  /**
+   * Run the operation in the lane after all currently pending notifications. The capacity is not applied.
+   */
+  public void execute(Runnable operation) {
+    synchronized (this) {
+      if (stopped) {
+        return;
+      }
+      queue.add(new Entry<>(null, operation, null));
+    }
+    scheduleDrain();
+  }
+
+  /**
+   * Run the callback once all currently pending notifications have been processed. Unlike
+   * {@link #execute(Runnable)} the callback is not skipped if the listener is stopped, it is run
+   * at the latest by {@link #stop()}.
+   */
+  public void afterPending(Runnable callback) {
+    Barrier barrier = new Barrier(callback);
+    boolean queued;
+    synchronized (this) {
+      queued = !stopped;
+      if (queued) {
+        barriers.add(barrier);
+        queue.add(new Entry<>(null, barrier, null));
+      }
+    }
+    if (queued) {
+      scheduleDrain();
+    } else {
+      barrier.run();
+    }
+  }
+
+  private void enqueue(Notification<T> notification, String key) {
+    synchronized (this) {
+      while (!stopped) {
+        if (key != null && dropped.containsKey(key)) {
+          // keep the order for this key - it will be delivered by the resync
+          droppedCount++;
+          return;
+        }
+        if (coalesceAlways && key != null && coalesce(key, notification)) {
+          return;
+        }
+        if (queue.size() < capacity || drainingThread == Thread.currentThread()) {
+          break;
+        }
+        if (key != null) {
+          if (!coalesceAlways && overflowPolicy == QueueOverflowPolicy.COALESCE && coalesce(key, notification)) {
+            return;
+          }
+          if (overflowPolicy == QueueOverflowPolicy.DROP_AND_RESYNC && itemLookup != null) {
+            dropped.put(key, notification.getOldObject());
+            droppedCount++;
+            return;
+          }
+        }
+        try {
+          this.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+      if (stopped) {
+        return;
+      }
+      Entry<T> entry = new Entry<>(notification, null, key);
+      queue.add(entry);
+      if (key != null && (coalesceAlways || overflowPolicy == QueueOverflowPolicy.COALESCE)) {
+        pendingByKey.put(key, entry);
+      }
+    }
+    scheduleDrain();
+  }
+
+  /**
+   * Merge the notification with the pending notification for the same key
+   *
+   * @return true if the notification was merged
+   */
+  private boolean coalesce(String key, Notification<T> notification) {
+    Entry<T> pending = pendingByKey.get(key);
+    if (pending == null || pending.notification == null) {
+      return false;
+    }
+    Notification<T> merged = merge(pending.notification, notification);
+    if (merged == pending.notification) {
+      return false;
+    }
+    pending.notification = merged;
+    if (merged == null) {
+      pendingByKey.remove(key);
+    }
+    coalescedCount++;
+    return true;
+  }
+
+  /**
+   * Determine the single notification equivalent to pending followed by next.
+   *
+   * @return the merged notification, null if they cancel each other out, or pending if they cannot be merged
+   */
+  static <T> Notification<T> merge(Notification<T> pending, Notification<T> next) {
+    if (pending instanceof DeleteNotification || next instanceof AddNotification) {
+      return pending;
+    }
+    if (pending instanceof AddNotification) {
+      if (next instanceof DeleteNotification) {
+        return null;
+      }
+      return new AddNotification<>(next.getNewObject());
+    }
+    if (next instanceof DeleteNotification) {
+      return next;
+    }
+    return new UpdateNotification<>(pending.getOldObject(), next.getNewObject());
+  }
+
+  private void scheduleDrain() {
+    synchronized (this) {
+      if (draining || stopped) {
+        return;
+      }
+      draining = true;
+    }
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      log.debug("Underlying executor rejected execution", e);
+      synchronized (this) {
+        draining = false;
+      }
+    }
+  }
+
+  private void drain() {
+    synchronized (this) {
+      drainingThread = Thread.currentThread();
+    }
+    try {
+      while (true) {
+        Entry<T> entry;
+        synchronized (this) {
+          entry = queue.poll();
+          if (entry == null) {
+            entry = resyncDropped();
+          }
+          if (entry == null || stopped) {
+            draining = false;
+            return;
+          }
+          if (entry.key != null && pendingByKey.get(entry.key) == entry) {
+            pendingByKey.remove(entry.key);
+          }
+          this.notifyAll();
+        }
+        try {
+          if (entry.operation != null) {
+            entry.operation.run();
+          } else if (entry.notification != null) {
+            dispatch(entry);
+          }
+        } catch (Exception ex) {
+          log.error("{} failed invoking {} event handler: {}", informerDescription, handler, ex.getMessage(), ex);
+        }
+      }
+    } finally {
+      synchronized (this) {
+        drainingThread = null;
+      }
+      Thread.interrupted();
+    }
+  }
+
+  private void dispatch(Entry<T> entry) {
+    final Object event = ClientEvents.beginHandlerDispatch();
+    if (event == null) {
+      entry.notification.handle(handler);
+      return;
+    }
+    final long queuedNanos = System.nanoTime() - entry.enqueuedNanos;
+    try {
+      entry.notification.handle(handler);
+    } finally {
+      ClientEvents.endHandlerDispatch(event, informerDescription, entry.notification.getClass().getSimpleName(),
+          queuedNanos);
+    }
+  }
+
+  /**
+   * Once the queue is empty re-enqueue notifications for the dropped keys based upon the current state
+   */
+  private Entry<T> resyncDropped() {
+    if (dropped.isEmpty()) {
+      return null;
+    }
+    Map<String, T> toResync = dropped;
+    dropped = new LinkedHashMap<>();
+    toResync.forEach((key, lastKnown) -> {
+      T current = itemLookup.apply(key);
+      Notification<T> notification = null;
+      if (current != null) {
+        notification = lastKnown == null ? new AddNotification<>(current) : new UpdateNotification<>(lastKnown, current);
+      } else if (lastKnown != null) {
+        notification = new DeleteNotification<>(lastKnown, true);
+      }
+      if (notification != null) {
+        queue.add(new Entry<>(notification, null, null));
+      }
+    });
+    return queue.poll();
+  }
+
+  /**
+   * Stop delivering notifications. The current handler invocation will be interrupted if it is not
+   * on the calling thread.
+   */
+  public void stop() {
+    List<Barrier> released;
+    synchronized (this) {
+      stopped = true;
+      queue.clear();
+      pendingByKey.clear();
+      dropped.clear();
+      released = new ArrayList<>(barriers);
+      if (drainingThread != null && drainingThread != Thread.currentThread()) {
+        drainingThread.interrupt();
+      }
+      this.notifyAll();
+    }
+    // whoever is waiting on the pending notifications should not wait forever
+    released.forEach(Barrier::run);
   }
 
   public void determineNextResync(ZonedDateTime now) {
@@ -66,6 +421,30 @@ public class ProcessorListener<T> {
     return resyncPeriodInMillis;
   }
 
+  @Override
+  public synchronized int getPending() {
+    return queue.size();
+  }
+
+  @Override
+  public synchronized long getLagMillis() {
+    Entry<T> head = queue.peek();
+    if (head == null) {
+      return 0;
+    }
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - head.enqueuedNanos);
+  }
+
+  @Override
+  public synchronized long getCoalesced() {
+    return coalescedCount;
+  }
+
+  @Override
+  public synchronized long getDropped() {
+    return droppedCount;
+  }
+
   public abstract static class Notification<T> {
     private final T oldObject;
     private final T newObject;
@@ -127,6 +506,7 @@ public class ProcessorListener<T> {
     }
   }
 
+  @Override
   public ResourceEventHandler<? super T> getHandler() {
     return handler;
   }
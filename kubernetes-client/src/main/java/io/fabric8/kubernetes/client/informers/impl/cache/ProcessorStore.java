@@ -20,12 +20,16 @@ import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.Notification;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 /**
  * Wraps a {@link Cache} and a {@link SharedProcessor} to distribute events related to changes and syncs
@@ -36,10 +40,26 @@ public class ProcessorStore<T extends HasMetadata> {
   private SharedProcessor<T> processor;
   private AtomicBoolean synced = new AtomicBoolean();
   private List<String> deferredAdd = new ArrayList<>();
+  private UnaryOperator<T> transform;
+  private final String namespace;
+  private final AtomicInteger unsyncedNamespaces;
 
   public ProcessorStore(CacheImpl<T> cache, SharedProcessor<T> processor) {
+    this(cache, processor, null, null);
+  }
+
+  /**
+   * @param namespace if not null, relists only retain or remove the items of this namespace - for
+   *        when a cache is shared by the list/watches of several namespaces
+   * @param unsyncedNamespaces shared by the stores of all of the namespaces, the number that have not yet synced.
+   *        Handlers are only told there is nothing once every namespace has synced.
+   */
+  public ProcessorStore(CacheImpl<T> cache, SharedProcessor<T> processor, String namespace,
+      AtomicInteger unsyncedNamespaces) {
     this.cache = cache;
     this.processor = processor;
+    this.namespace = namespace;
+    this.unsyncedNamespaces = unsyncedNamespaces;
   }
 
   public void add(T obj) {
@@ -50,7 +70,23 @@ public class ProcessorStore<T extends HasMetadata> {
     items.stream().map(this::updateInternal).filter(Objects::nonNull).forEach(n -> this.processor.distribute(n, false));
   }
 
+  /**
+   * Set the transform applied to each object before it is stored and distributed.
+   * Must be called prior to any modifications.
+   */
+  public void setTransform(UnaryOperator<T> transform) {
+    this.transform = transform;
+  }
+
+  public T transform(T obj) {
+    if (transform == null) {
+      return obj;
+    }
+    return transform.apply(obj);
+  }
+
   private Notification<T> updateInternal(T obj) {
+    obj = transform(obj);
     T oldObj = this.cache.put(obj);
     Notification<T> notification = null;
     if (oldObj != null) {
@@ -72,7 +108,25 @@ public class ProcessorStore<T extends HasMetadata> {
     }
   }
 
+  /**
+   * Update with an item from a list. Relisting typically returns mostly unchanged items, so if the
+   * cache already holds the same resourceVersion the item is skipped without restoring or
+   * replacing the cached object.
+   *
+   * @param obj the listed item
+   * @return the key of the item
+   */
+  public String updateListed(T obj) {
+    String key = getKey(obj);
+    String resourceVersion = obj.getMetadata().getResourceVersion();
+    if (resourceVersion == null || !resourceVersion.equals(cache.getResourceVersion(key))) {
+      update(obj);
+    }
+    return key;
+  }
+
   public void delete(T obj) {
+    obj = transform(obj);
     Object oldObj = this.cache.remove(obj);
     if (oldObj != null) {
       this.processor.distribute(new ProcessorListener.DeleteNotification<>(obj, false), false);
@@ -96,37 +150,62 @@ public class ProcessorStore<T extends HasMetadata> {
   }
 
   public void retainAll(Set<String> nextKeys, Consumer<Executor> cacheStateComplete) {
+    boolean allSynced;
     if (synced.compareAndSet(false, true)) {
       deferredAdd.stream().map(cache::getByKey).filter(Objects::nonNull)
           .forEach(v -> this.processor.distribute(new ProcessorListener.AddNotification<>(v), false));
       deferredAdd.clear();
+      // only the last namespace to sync may see zero
+      allSynced = unsyncedNamespaces == null || unsyncedNamespaces.decrementAndGet() == 0;
+    } else {
+      allSynced = unsyncedNamespaces == null || unsyncedNamespaces.get() == 0;
     }
-    List<T> current = cache.list();
-    if (nextKeys.isEmpty() && current.isEmpty()) {
-      this.processor.distribute(l -> l.getHandler().onNothing(), false);
+    // compare keys only - just the removed items need to be restored
+    List<String> currentKeys = currentKeys();
+    if (allSynced && nextKeys.isEmpty() && currentKeys.isEmpty() && (namespace == null || cache.listKeys().isEmpty())) {
+      this.processor.distribute(l -> l.execute(() -> l.getHandler().onNothing()), false);
     }
-    current.forEach(v -> {
-      String key = cache.getKey(v);
+    currentKeys.forEach(key -> {
       if (!nextKeys.contains(key)) {
-        cache.remove(v);
-        this.processor.distribute(new ProcessorListener.DeleteNotification<>(v, true), false);
+        T v = cache.removeByKey(key);
+        if (v != null) {
+          this.processor.distribute(new ProcessorListener.DeleteNotification<>(v, true), false);
+        }
       }
     });
     if (cacheStateComplete != null) {
-      cacheStateComplete.accept(this.processor.getSerialExecutor()::execute);
+      cacheStateComplete.accept(this.processor::executeAfterPending);
     }
   }
 
+  /**
+   * Mark the store as synced without listing, for when the current state is already known - as when
+   * resuming a watch from an initial state. Adds that were deferred are distributed, and the handlers
+   * are notified if there is nothing.
+   */
+  public void markSynced() {
+    retainAll(new HashSet<>(currentKeys()), null);
+  }
+
+  private List<String> currentKeys() {
+    if (namespace == null) {
+      return cache.listKeys();
+    }
+    if (cache.getIndexers().containsKey(Cache.NAMESPACE_INDEX)) {
+      return cache.indexKeys(Cache.NAMESPACE_INDEX, namespace);
+    }
+    return cache.list().stream().filter(v -> namespace.equals(v.getMetadata().getNamespace())).map(cache::getKey)
+        .collect(Collectors.toList());
+  }
+
   public String getKey(T obj) {
     return cache.getKey(obj);
   }
 
   public void resync() {
     // lock to ensure the ordering wrt other events
-    synchronized (cache.getLockObject()) {
-      this.cache.list()
-          .forEach(i -> this.processor.distribute(new ProcessorListener.UpdateNotification<>(i, i), true));
-    }
+    cache.runExclusive(() -> this.cache.list()
+        .forEach(i -> this.processor.distribute(new ProcessorListener.UpdateNotification<>(i, i), true)));
   }
 
 }
@@ -17,6 +17,7 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
@@ -25,6 +26,8 @@ import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
 import io.fabric8.kubernetes.client.informers.ExceptionHandler;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
+import io.fabric8.kubernetes.client.jfr.ClientEvents;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import io.fabric8.kubernetes.client.utils.ExponentialBackoffIntervalCalculator;
 import io.fabric8.kubernetes.client.utils.Utils;
 import org.slf4j.Logger;
@@ -33,7 +36,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +49,8 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   private static long MIN_TIMEOUT = TimeUnit.MINUTES.toSeconds(5);
 
   private volatile String lastSyncResourceVersion;
+  // whether a list has completed - a resumed watch sets the lastSyncResourceVersion without listing
+  private volatile boolean listCompleted;
   private final ListerWatcher<T, L> listerWatcher;
   private final ProcessorStore<T> store;
   private final ReflectorWatcher watcher;
@@ -64,6 +69,11 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
 
   private boolean cachedListing = true;
 
+  private volatile String resumeResourceVersion;
+
+  private volatile boolean watchList;
+  private volatile InitialEvents initialEvents;
+
   public Reflector(ListerWatcher<T, L> listerWatcher, ProcessorStore<T> store) {
     this(listerWatcher, store, Runnable::run);
   }
@@ -115,6 +125,9 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
    * Starts the watch with a fresh store state.
    * <br>
    * Should be called only at start and when HttpGone is seen.
+   * <br>
+   * If a resume resourceVersion was supplied with the initial state, the first call
+   * skips the list and starts the watch from that version instead.
    *
    * @return a future that completes when the list and watch are established
    */
@@ -122,22 +135,16 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     if (isStopped()) {
       return CompletableFuture.completedFuture(null);
     }
-    Set<String> nextKeys = new ConcurrentSkipListSet<>();
-    CompletableFuture<Void> theFuture = processList(nextKeys, null).thenCompose(result -> {
-      final String latestResourceVersion = result.getMetadata().getResourceVersion();
-      log.debug("Listing items ({}) for {} at v{}", nextKeys.size(), this, latestResourceVersion);
-      CompletableFuture<?> cf = new CompletableFuture<>();
-      store.retainAll(nextKeys, executor -> {
-        boolean startWatchImmediately = cachedListing && lastSyncResourceVersion == null;
-        lastSyncResourceVersion = latestResourceVersion;
-        if (startWatchImmediately) {
-          cf.complete(null);
-        } else {
-          executor.execute(() -> cf.complete(null));
-        }
-      });
-      return cf.thenCompose(ignored -> startWatcher(latestResourceVersion));
-    }).thenAccept(w -> {
+    CompletableFuture<? extends Watch> watchStarted;
+    String resumeVersion = resumeResourceVersion;
+    if (resumeVersion != null) {
+      // only the first attempt resumes
+      resumeResourceVersion = null;
+      watchStarted = resumeWatcher(resumeVersion);
+    } else {
+      watchStarted = syncAndStartWatcher();
+    }
+    CompletableFuture<Void> theFuture = watchStarted.thenAccept(w -> {
       if (w != null) {
         if (!isStopped()) {
           if (log.isDebugEnabled()) {
@@ -160,6 +167,113 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     return theFuture;
   }
 
+  private CompletableFuture<Watch> resumeWatcher(String resumeVersion) {
+    log.debug("Resuming watch for {} at v{}", this, resumeVersion);
+    lastSyncResourceVersion = resumeVersion;
+    // the initial state stands in for the list, so later adds go straight to the handlers
+    store.markSynced();
+    CompletableFuture<Watch> result = new CompletableFuture<>();
+    CompletableFuture.completedFuture(resumeVersion).thenCompose(this::startWatcher).whenComplete((w, t) -> {
+      if (t == null) {
+        result.complete(w);
+        return;
+      }
+      // typically http gone because the version is too old - fall back to a full relist
+      log.debug("Could not resume watch for {} at v{}, will relist", this, resumeVersion, t);
+      syncAndStartWatcher().whenComplete((relisted, relistError) -> {
+        if (relistError != null) {
+          result.completeExceptionally(relistError);
+        } else {
+          result.complete(relisted);
+        }
+      });
+    });
+    return result;
+  }
+
+  private CompletableFuture<? extends Watch> syncAndStartWatcher() {
+    ClientMetrics metrics = listerWatcher.getClientMetrics();
+    if (listCompleted && metrics != null) {
+      metrics.informerRelisted(listerWatcher.getResourceT(), listerWatcher.getNamespace());
+    }
+    if (watchList) {
+      return watchListAndStartWatcher();
+    }
+    return listAndStartWatcher();
+  }
+
+  /**
+   * Rather than listing, stream the initial state as watch events. The watch is considered started
+   * once the bookmark marking the end of the initial events is received. If that fails, for example
+   * because the server does not support it, fall back to list and watch.
+   */
+  private CompletableFuture<Watch> watchListAndStartWatcher() {
+    InitialEvents pending = new InitialEvents();
+    initialEvents = pending;
+    ListOptions options = new ListOptionsBuilder()
+        .withSendInitialEvents(true)
+        .withResourceVersionMatch("NotOlderThan")
+        .withResourceVersion(lastSyncResourceVersion)
+        .withAllowWatchBookmarks(true)
+        .withTimeoutSeconds(minTimeout * 2)
+        .build();
+    CompletableFuture<Watch> result = new CompletableFuture<>();
+    CompletableFuture.completedFuture(options).thenCompose(this::startWatcher)
+        // a null watch means the reflector was stopped, so don't wait for the initial events
+        .thenCompose(w -> w == null ? CompletableFuture.completedFuture(null) : pending.end.thenApply(ignored -> (Watch) w))
+        .whenComplete((w, t) -> {
+          if (t == null) {
+            result.complete(w);
+            return;
+          }
+          if (initialEvents == pending) {
+            initialEvents = null;
+          }
+          if (isStopped()) {
+            result.completeExceptionally(t);
+            return;
+          }
+          log.debug("Could not stream the initial events for {}, will list instead", this, t);
+          watchList = false;
+          stopWatcher();
+          listAndStartWatcher().whenComplete((listed, listError) -> {
+            if (listError != null) {
+              result.completeExceptionally(listError);
+            } else {
+              result.complete(listed);
+            }
+          });
+        });
+    return result;
+  }
+
+  private CompletableFuture<? extends Watch> listAndStartWatcher() {
+    Set<String> nextKeys = ConcurrentHashMap.newKeySet();
+    final boolean relist = listCompleted;
+    final Object event = ClientEvents.beginInformerList();
+    final CompletableFuture<L> listed = processList(nextKeys, null);
+    if (event != null) {
+      listed.whenComplete((result, t) -> ClientEvents.endInformerList(event, listerWatcher.getResourceT(),
+          listerWatcher.getNamespace(), t == null ? nextKeys.size() : -1, relist));
+    }
+    return listed.thenCompose(result -> {
+      final String latestResourceVersion = result.getMetadata().getResourceVersion();
+      log.debug("Listing items ({}) for {} at v{}", nextKeys.size(), this, latestResourceVersion);
+      CompletableFuture<?> cf = new CompletableFuture<>();
+      store.retainAll(nextKeys, executor -> {
+        boolean startWatchImmediately = cachedListing && lastSyncResourceVersion == null;
+        lastSyncResourceVersion = latestResourceVersion;
+        listCompleted = true;
+        if (startWatchImmediately) {
+          cf.complete(null);
+        } else {
+          executor.execute(() -> cf.complete(null));
+        }
+      });
+      return cf.thenCompose(ignored -> startWatcher(latestResourceVersion));
+    });
+  }
+
   private void onException(String operation, Throwable t) {
     if (handler.retryAfterException(startFuture.isDone() && !startFuture.isCompletedExceptionally(), t)) {
       log.warn("{} failed for {}, will retry", operation, Reflector.this, t);
@@ -180,20 +294,17 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
   }
 
   private CompletableFuture<L> processList(Set<String> nextKeys, String continueVal) {
+    // items are streamed into the store as they are parsed, rather than holding the whole list in memory
     CompletableFuture<L> futureResult = listerWatcher
         .submitList(
             new ListOptionsBuilder()
                 // if caching is allowed, start with 0 - meaning any cached version is fine for the initial listing
                 .withResourceVersion(isCachedListing(continueVal) ? "0" : null)
                 .withLimit(listerWatcher.getLimit()).withContinue(continueVal)
-                .build());
+                .build(),
+            i -> nextKeys.add(store.updateListed(i)), executor);
 
     return futureResult.thenCompose(result -> {
-      result.getItems().forEach(i -> {
-        String key = store.getKey(i);
-        nextKeys.add(key);
-      });
-      store.update(result.getItems());
       String nextContinueVal = result.getMetadata().getContinue();
       if (Utils.isNotNullOrEmpty(nextContinueVal)) {
         return processList(nextKeys, nextContinueVal);
@@ -213,20 +324,22 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     watchStopped(); // proactively report as stopped
   }
 
-  private synchronized CompletableFuture<? extends Watch> startWatcher(final String latestResourceVersion) {
+  private CompletableFuture<? extends Watch> startWatcher(final String latestResourceVersion) {
+    return startWatcher(new ListOptionsBuilder().withResourceVersion(latestResourceVersion)
+        // this would match the behavior of the go client, but requires changing a lot of mock expectations
+        // so instead we'll terminate below and set a fail-safe here
+        // .withTimeoutSeconds((long) ((Math.random() + 1) * minTimeout))
+        .withTimeoutSeconds(minTimeout * 2)
+        .build());
+  }
+
+  private synchronized CompletableFuture<? extends Watch> startWatcher(ListOptions options) {
     if (isStopped()) {
       return CompletableFuture.completedFuture(null);
     }
-    log.debug("Starting watcher for {} at v{}", this, latestResourceVersion);
+    log.debug("Starting watcher for {} at v{}", this, options.getResourceVersion());
     // there's no need to stop the old watch, that will happen automatically when this call completes
-    CompletableFuture<AbstractWatchManager<T>> future = listerWatcher.submitWatch(
-        new ListOptionsBuilder().withResourceVersion(latestResourceVersion)
-            // this would match the behavior of the go client, but requires changing a lot of mock expectations
-            // so instead we'll terminate below and set a fail-safe here
-            // .withTimeoutSeconds((long) ((Math.random() + 1) * minTimeout))
-            .withTimeoutSeconds(minTimeout * 2)
-            .build(),
-        watcher);
+    CompletableFuture<AbstractWatchManager<T>> future = listerWatcher.submitWatch(options, watcher);
 
     // the alternative to this is to localize the logic in the AbstractWatchManager, however since
     // we only need it for informers, it seems fine here
@@ -278,6 +391,11 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
             resource.getKind(),
             resource.getMetadata().getResourceVersion(), Reflector.this);
       }
+      InitialEvents pending = initialEvents;
+      if (pending != null) {
+        onInitialEvent(pending, action, resource);
+        return;
+      }
       switch (action) {
         case ERROR:
           throw new KubernetesClientException("ERROR event");
@@ -294,11 +412,40 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
       lastSyncResourceVersion = resource.getMetadata().getResourceVersion();
     }
 
+    private void onInitialEvent(InitialEvents pending, Action action, T resource) {
+      if (action == Action.ADDED) {
+        pending.keys.add(store.updateListed(resource));
+      } else if (action == Action.BOOKMARK && AbstractWatchManager.isInitialEventsEnd(resource)) {
+        initialEvents = null;
+        String latestResourceVersion = resource.getMetadata().getResourceVersion();
+        log.debug("Streamed initial events ({}) for {} at v{}", pending.keys.size(), Reflector.this, latestResourceVersion);
+        store.retainAll(pending.keys, executor -> {
+          boolean startWatchImmediately = cachedListing && lastSyncResourceVersion == null;
+          lastSyncResourceVersion = latestResourceVersion;
+          listCompleted = true;
+          if (startWatchImmediately) {
+            pending.end.complete(null);
+          } else {
+            executor.execute(() -> pending.end.complete(null));
+          }
+        });
+      } else if (action != Action.BOOKMARK) {
+        throw new KubernetesClientException("Unexpected " + action + " event before the end of the initial events for "
+            + Reflector.this);
+      }
+    }
+
     @Override
     public void onClose(WatcherException exception) {
       // this close was triggered by an exception,
       // not the user, it is expected that the watch retry will handle this
       watchStopped();
+      InitialEvents pending = initialEvents;
+      if (pending != null) {
+        // let the watch list fall back to listing
+        pending.end.completeExceptionally(exception);
+        return;
+      }
       if (exception.isHttpGone()) {
         if (log.isDebugEnabled()) {
           log.debug("Watch restarting due to http gone for {}", Reflector.this);
@@ -322,6 +469,11 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     }
   }
 
+  private static final class InitialEvents {
+    final Set<String> keys = ConcurrentHashMap.newKeySet();
+    final CompletableFuture<Void> end = new CompletableFuture<>();
+  }
+
   ReflectorWatcher getWatcher() {
     return watcher;
   }
@@ -339,8 +491,28 @@ public class Reflector<T extends HasMetadata, L extends KubernetesResourceList<T
     this.handler = handler;
   }
 
+  /**
+   * Stream the initial state as watch events, rather than listing, when the server supports it.
+   *
+   * @param watchList true to use watch list
+   */
+  public void setWatchList(boolean watchList) {
+    this.watchList = watchList;
+  }
+
   public void usingInitialState() {
     this.cachedListing = false;
   }
 
+  /**
+   * Use an initial state that was known to be current as of the given resourceVersion. The first
+   * watch is started from that version without listing.
+   *
+   * @param resourceVersion the version to resume from
+   */
+  public void usingInitialState(String resourceVersion) {
+    usingInitialState();
+    this.resumeResourceVersion = resourceVersion;
+  }
+
 }
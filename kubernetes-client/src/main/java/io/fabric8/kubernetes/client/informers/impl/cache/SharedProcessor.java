@@ -15,10 +15,9 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.client.informers.EventQueueStatus;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
-import io.fabric8.kubernetes.client.utils.internal.SerialExecutor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -26,9 +25,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -39,29 +40,81 @@ import java.util.function.Supplier;
  * https://github.com/kubernetes-client/java/blob/main/util/src/main/java/io/kubernetes/client/informer/cache/SharedProcessor.java
  *
  * <br>
- * Modified to simplify threading
+ * Modified to simplify threading - each listener is notified in its own serial lane, so that listeners
+ * are invoked in parallel with respect to each other.
  */
 public class SharedProcessor<T> {
-  private static final Logger log = LoggerFactory.getLogger(SharedProcessor.class);
 
   private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // ensures that all lanes see distributed operations in the same order
+  private final Object distributeLock = new Object();
 
   private final List<ProcessorListener<T>> listeners = new ArrayList<>();
   private final List<ProcessorListener<T>> syncingListeners = new ArrayList<>();
-  private final SerialExecutor executor;
+  private final Executor executor;
   private final String informerDescription;
+  private final Function<T, String> keyFunction;
+  private final Function<String, T> itemLookup;
+  private volatile boolean stopped;
+
+  // lanes are by default unbounded, because resync may flood them with events for large caches
+  private int queueCapacity = Integer.MAX_VALUE;
+  private QueueOverflowPolicy overflowPolicy = QueueOverflowPolicy.BLOCK;
+  private boolean coalescing;
 
   public SharedProcessor() {
     this(Runnable::run, "informer");
   }
 
   public SharedProcessor(Executor executor, String informerDescription) {
-    // serialexecutors are by default unbounded, we expect this behavior here
-    // because resync may flood the executor with events for large caches
-    // if we ever need to limit the queue size, we have to revisit the
-    // resync locking behavior
-    this.executor = new SerialExecutor(executor);
+    this(executor, informerDescription, null, null);
+  }
+
+  /**
+   * @param executor the executor used by the listener lanes
+   * @param informerDescription used for logging
+   * @param keyFunction the key function for items, required for coalescing and dropping
+   * @param itemLookup the lookup of the current item state by key, required for dropping
+   */
+  public SharedProcessor(Executor executor, String informerDescription, Function<T, String> keyFunction,
+      Function<String, T> itemLookup) {
+    this.executor = executor;
     this.informerDescription = informerDescription;
+    this.keyFunction = keyFunction;
+    this.itemLookup = itemLookup;
+  }
+
+  /**
+   * Set the queue settings for subsequently added listeners
+   *
+   * @param capacity the maximum number of pending notifications per listener
+   * @param overflowPolicy what to do when a listener's queue is full
+   */
+  public void setQueue(int capacity, QueueOverflowPolicy overflowPolicy) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Invalid queue capacity provided, it should be a positive value");
+    }
+    lock.writeLock().lock();
+    try {
+      this.queueCapacity = capacity;
+      this.overflowPolicy = overflowPolicy;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Set whether subsequently added listeners should coalesce their pending notifications by key
+   *
+   * @param coalescing true to coalesce
+   */
+  public void setCoalescing(boolean coalescing) {
+    lock.writeLock().lock();
+    try {
+      this.coalescing = coalescing;
+    } finally {
+      lock.writeLock().unlock();
+    }
   }
 
   /**
@@ -82,17 +135,9 @@ public class SharedProcessor<T> {
   }
 
   /**
-   * Distribute the object amount listeners.
-   *
-   * @param obj specific obj
-   * @param isSync whether in sync or not
-   */
-  public void distribute(ProcessorListener.Notification<T> obj, boolean isSync) {
-    distribute(l -> l.add(obj), isSync);
-  }
-
-  /**
-   * Distribute the operation to the respective listeners
+   * Distribute the operation to the respective listeners. The operation is
+   * expected to enqueue work via {@link ProcessorListener#add(ProcessorListener.Notification)} or
+   * {@link ProcessorListener#execute(Runnable)}
    */
   public void distribute(Consumer<ProcessorListener<T>> operation, boolean isSync) {
     // obtain the list to call outside before submitting
@@ -107,16 +152,52 @@ public class SharedProcessor<T> {
     } finally {
       lock.readLock().unlock();
     }
-    executor.execute(() -> {
+    synchronized (distributeLock) {
+      if (stopped) {
+        return;
+      }
       for (ProcessorListener<T> listener : toCall) {
-        try {
-          operation.accept(listener);
-        } catch (Exception ex) {
-          log.error("{} failed invoking {} event handler: {}", informerDescription, listener.getHandler(), ex.getMessage(),
-              ex);
-        }
+        operation.accept(listener);
       }
-    });
+    }
+  }
+
+  /**
+   * Distribute the notification to the listeners
+   *
+   * @param obj specific obj
+   * @param isSync whether in sync or not
+   */
+  public void distribute(ProcessorListener.Notification<T> obj, boolean isSync) {
+    distribute(l -> l.add(obj), isSync);
+  }
+
+  /**
+   * Execute the runnable once all listeners have processed their currently pending notifications
+   *
+   * @param runnable to execute
+   */
+  public void executeAfterPending(Runnable runnable) {
+    List<ProcessorListener<T>> toCall;
+    lock.readLock().lock();
+    try {
+      toCall = new ArrayList<>(listeners);
+    } finally {
+      lock.readLock().unlock();
+    }
+    if (toCall.isEmpty()) {
+      executor.execute(runnable);
+      return;
+    }
+    AtomicInteger remaining = new AtomicInteger(toCall.size());
+    for (ProcessorListener<T> listener : toCall) {
+      // also counts down if the listener is stopped or removed in the meantime
+      listener.afterPending(() -> {
+        if (remaining.decrementAndGet() == 0) {
+          runnable.run();
+        }
+      });
+    }
   }
 
   public boolean shouldResync() {
@@ -140,9 +221,10 @@ public class SharedProcessor<T> {
   }
 
   public void stop() {
-    executor.shutdownNow();
+    stopped = true;
     lock.writeLock().lock();
     try {
+      listeners.forEach(ProcessorListener::stop);
       syncingListeners.clear();
       listeners.clear();
     } finally {
@@ -158,7 +240,8 @@ public class SharedProcessor<T> {
       Supplier<Collection<T>> initialItems) {
     lock.writeLock().lock();
     try {
-      ProcessorListener<T> listener = new ProcessorListener<>(handler, resyncPeriodMillis);
+      ProcessorListener<T> listener = new ProcessorListener<>(handler, resyncPeriodMillis, executor, queueCapacity,
+          overflowPolicy, coalescing, keyFunction, itemLookup, informerDescription);
 
       for (T item : initialItems.get()) {
         listener.add(new ProcessorListener.AddNotification<>(item));
@@ -176,6 +259,7 @@ public class SharedProcessor<T> {
     try {
       var targetListener = this.listeners.stream().filter(l -> l.getHandler() == handler).findFirst();
       targetListener.ifPresent(l -> {
+        l.stop();
         this.listeners.remove(l);
         if (l.isReSync()) {
           this.syncingListeners.remove(l);
@@ -197,8 +281,13 @@ public class SharedProcessor<T> {
     }
   }
 
-  public SerialExecutor getSerialExecutor() {
-    return executor;
+  public List<EventQueueStatus> getEventQueueStatus() {
+    lock.readLock().lock();
+    try {
+      return new ArrayList<>(this.listeners);
+    } finally {
+      lock.readLock().unlock();
+    }
   }
 
 }
@@ -67,4 +67,14 @@ public class WatcherToggle<T> implements Watcher<T> {
   public boolean reconnecting() {
     return delegate.reconnecting();
   }
+
+  @Override
+  public int eventQueueCapacity() {
+    return delegate.eventQueueCapacity();
+  }
+
+  @Override
+  public boolean parallelDecoding() {
+    return delegate.parallelDecoding();
+  }
 }
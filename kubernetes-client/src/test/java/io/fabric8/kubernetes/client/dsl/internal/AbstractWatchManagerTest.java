@@ -18,6 +18,7 @@ package io.fabric8.kubernetes.client.dsl.internal;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager.WatchRequestState;
@@ -32,6 +33,10 @@ import org.mockito.Mockito;
 import java.net.MalformedURLException;
 import java.net.ProtocolException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -259,6 +264,121 @@ class AbstractWatchManagerTest {
     assertThat(awm.isForceClosed()).isFalse();
   }
 
+  @Test
+  void boundedEventQueueDefersRequests() throws Exception {
+    // Given
+    final List<Runnable> tasks = new ArrayList<>();
+    final BaseOperation<HasMetadata, ?, ?> operation = mockOperation();
+    Mockito.when(operation.getOperationContext().getExecutor()).thenReturn(tasks::add);
+    final WatcherAdapter<HasMetadata> watcher = new WatcherAdapter<HasMetadata>() {
+      @Override
+      public int eventQueueCapacity() {
+        return 2;
+      }
+    };
+    final WatchManager<HasMetadata> awm = new WatchManager<>(
+        watcher, mock(ListOptions.class, RETURNS_DEEP_STUBS), 1, 0, operation);
+    final AtomicInteger requests = new AtomicInteger();
+    // When
+    awm.watcher.eventReceived(Watcher.Action.ADDED, null);
+    awm.requestMore(requests::incrementAndGet);
+    awm.watcher.eventReceived(Watcher.Action.ADDED, null);
+    awm.requestMore(requests::incrementAndGet);
+    // Then - the second request waits for the watcher to catch up
+    assertThat(requests.get()).isEqualTo(1);
+    // exposed to callers holding the Watch
+    final Watch watch = awm;
+    assertThat(watch.getEventQueueDepth()).isEqualTo(2);
+    tasks.remove(0).run();
+    assertThat(requests.get()).isEqualTo(2);
+    assertThat(awm.getEventQueueDepth()).isEqualTo(1);
+    tasks.remove(0).run();
+    assertThat(awm.getEventQueueDepth()).isZero();
+  }
+
+  @Test
+  void parallelDecodingPreservesOrder() throws Exception {
+    // Given
+    final List<Runnable> tasks = new ArrayList<>();
+    final BaseOperation<HasMetadata, ?, ?> operation = mockOperation();
+    Mockito.when(operation.getOperationContext().getExecutor()).thenReturn(tasks::add);
+    Mockito.when(operation.getType()).thenReturn(HasMetadata.class);
+    final List<String> received = new ArrayList<>();
+    final WatcherAdapter<HasMetadata> watcher = new WatcherAdapter<HasMetadata>() {
+      @Override
+      public void eventReceived(Action action, HasMetadata resource) {
+        received.add(resource.getMetadata().getName());
+      }
+
+      @Override
+      public boolean parallelDecoding() {
+        return true;
+      }
+    };
+    final WatchManager<HasMetadata> awm = new WatchManager<>(
+        watcher, mock(ListOptions.class, RETURNS_DEEP_STUBS), 1, 0, operation);
+    // When
+    awm.onMessage(podEvent("a", "1"), awm.latestRequestState);
+    awm.onMessage(ByteBuffer.wrap(podEvent("b", "2").getBytes(StandardCharsets.UTF_8)), awm.latestRequestState);
+    assertThat(tasks).hasSize(2);
+    // decode the second event first
+    tasks.remove(1).run();
+    tasks.remove(0).run();
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+    // Then
+    assertThat(received).containsExactly("a", "b");
+    assertThat(awm.resourceVersion.get()).isEqualTo("2");
+    assertThat(awm.getEventQueueDepth()).isZero();
+  }
+
+  @Test
+  void parallelDecodingIsBounded() throws Exception {
+    // Given
+    final List<Runnable> tasks = new ArrayList<>();
+    final BaseOperation<HasMetadata, ?, ?> operation = mockOperation();
+    Mockito.when(operation.getOperationContext().getExecutor()).thenReturn(tasks::add);
+    Mockito.when(operation.getType()).thenReturn(HasMetadata.class);
+    final List<String> received = new ArrayList<>();
+    final WatcherAdapter<HasMetadata> watcher = new WatcherAdapter<HasMetadata>() {
+      @Override
+      public void eventReceived(Action action, HasMetadata resource) {
+        received.add(resource.getMetadata().getName());
+      }
+
+      @Override
+      public boolean parallelDecoding() {
+        return true;
+      }
+    };
+    final WatchManager<HasMetadata> awm = new WatchManager<>(
+        watcher, mock(ListOptions.class, RETURNS_DEEP_STUBS), 1, 0, operation);
+    final AtomicInteger requests = new AtomicInteger();
+    // When
+    for (int i = 0; i <= AbstractWatchManager.MAX_PARALLEL_DECODES; i++) {
+      awm.onMessage(podEvent("pod" + i, String.valueOf(i)), awm.latestRequestState);
+    }
+    awm.requestMore(requests::incrementAndGet);
+    // Then - only the cap is handed to the executor, the rest is decoded inline and no more data is requested
+    assertThat(tasks).hasSize(AbstractWatchManager.MAX_PARALLEL_DECODES);
+    assertThat(requests.get()).isZero();
+    tasks.remove(0).run();
+    assertThat(requests.get()).isEqualTo(1);
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+    assertThat(received).hasSize(AbstractWatchManager.MAX_PARALLEL_DECODES + 1);
+    assertThat(received.get(AbstractWatchManager.MAX_PARALLEL_DECODES))
+        .isEqualTo("pod" + AbstractWatchManager.MAX_PARALLEL_DECODES);
+    assertThat(awm.getEventQueueDepth()).isZero();
+  }
+
+  private static String podEvent(String name, String resourceVersion) {
+    return "{\"type\":\"ADDED\",\"object\":{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"" + name
+        + "\",\"resourceVersion\":\"" + resourceVersion + "\"}}}";
+  }
+
   private static <T extends HasMetadata> WatchManager<T> withDefaultWatchManager(Watcher<T> watcher)
       throws MalformedURLException {
     return new WatchManager<>(
@@ -297,7 +417,12 @@ class AbstractWatchManagerTest {
 
     public WatchManager(Watcher<T> watcher, ListOptions listOptions, int reconnectLimit, int reconnectInterval)
         throws MalformedURLException {
-      super(watcher, mockOperation(), listOptions, reconnectLimit, reconnectInterval, null);
+      this(watcher, listOptions, reconnectLimit, reconnectInterval, mockOperation());
+    }
+
+    public WatchManager(Watcher<T> watcher, ListOptions listOptions, int reconnectLimit, int reconnectInterval,
+        BaseOperation<T, ?, ?> operation) throws MalformedURLException {
+      super(watcher, operation, listOptions, reconnectLimit, reconnectInterval, null);
     }
 
     @Override
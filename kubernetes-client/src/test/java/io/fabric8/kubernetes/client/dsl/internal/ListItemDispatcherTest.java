@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListItemDispatcherTest {
+
+  private final Queue<Runnable> tasks = new LinkedList<>();
+  private final List<Integer> consumed = new ArrayList<>();
+
+  private void runTasks() {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+  }
+
+  @Test
+  void itemsAreConsumedInOrderOffTheCallingThread() {
+    ListItemDispatcher<Integer> items = new ListItemDispatcher<>(consumed::add, tasks::add);
+    List<String> events = new ArrayList<>();
+
+    items.accept(1);
+    items.accept(2);
+    items.afterItems(() -> events.add("done"));
+
+    assertThat(consumed).isEmpty();
+    runTasks();
+    assertThat(consumed).containsExactly(1, 2);
+    assertThat(events).containsExactly("done");
+  }
+
+  @Test
+  void requestIsDeferredWhileAtCapacity() {
+    ListItemDispatcher<Integer> items = new ListItemDispatcher<>(consumed::add, tasks::add);
+    AtomicInteger requests = new AtomicInteger();
+
+    items.request(requests::incrementAndGet);
+    assertThat(requests).hasValue(1);
+
+    for (int i = 0; i < ListItemDispatcher.CAPACITY; i++) {
+      items.accept(i);
+    }
+    items.request(requests::incrementAndGet);
+    assertThat(requests).hasValue(1);
+
+    // draining a single item makes room
+    tasks.poll().run();
+    assertThat(requests).hasValue(2);
+
+    runTasks();
+    assertThat(consumed).hasSize(ListItemDispatcher.CAPACITY);
+    assertThat(requests).hasValue(2);
+  }
+
+  @Test
+  void consumerFailureIsCapturedAndStopsDelivery() {
+    RuntimeException failure = new IllegalStateException("boom");
+    ListItemDispatcher<Integer> items = new ListItemDispatcher<>(i -> {
+      if (i == 1) {
+        throw failure;
+      }
+      consumed.add(i);
+    }, tasks::add);
+
+    items.accept(0);
+    items.accept(1);
+    items.accept(2);
+    runTasks();
+
+    assertThat(consumed).containsExactly(0);
+    assertThat(items.getFailure()).isSameAs(failure);
+  }
+
+  @Test
+  void stopDiscardsPendingItems() {
+    ListItemDispatcher<Integer> items = new ListItemDispatcher<>(consumed::add, tasks::add);
+
+    items.accept(1);
+    items.stop();
+    runTasks();
+
+    assertThat(consumed).isEmpty();
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.dsl.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewlineFramerTest {
+
+  private final List<String> frames = new ArrayList<>();
+  private final NewlineFramer framer = new NewlineFramer(
+      frame -> frames.add(StandardCharsets.UTF_8.decode(frame).toString()));
+
+  @Test
+  void multipleFramesInOneBuffer() {
+    framer.accept(bytes("{\"a\":1}\n{\"b\":2}\n"));
+
+    assertThat(frames).containsExactly("{\"a\":1}", "{\"b\":2}");
+  }
+
+  @Test
+  void frameSplitAcrossBuffers() {
+    framer.accept(bytes("{\"a\""));
+    framer.accept(bytes(":1}\n{\"b\""));
+    framer.accept(bytes(":2}"));
+    framer.accept(bytes("\n"));
+
+    assertThat(frames).containsExactly("{\"a\":1}", "{\"b\":2}");
+  }
+
+  @Test
+  void multibyteCharacterSplitAcrossBuffers() {
+    byte[] encoded = "{\"name\":\"é中\"}\n".getBytes(StandardCharsets.UTF_8);
+    for (byte b : encoded) {
+      framer.accept(ByteBuffer.wrap(new byte[] { b }));
+    }
+
+    assertThat(frames).containsExactly("{\"name\":\"é中\"}");
+  }
+
+  @Test
+  void trailingPartialFrameIsHeld() {
+    framer.accept(bytes("{\"a\":1}\n{\"b\""));
+
+    assertThat(frames).containsExactly("{\"a\":1}");
+  }
+
+  @Test
+  void consumesBufferWithOffset() {
+    ByteBuffer buffer = bytes("xx{\"a\":1}\n");
+    buffer.position(2);
+    ByteBuffer slice = buffer.slice();
+
+    framer.accept(slice);
+
+    assertThat(frames).containsExactly("{\"a\":1}");
+    assertThat(slice.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void largeFrameAcrossManyBuffers() {
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      String chunk = Integer.toString(i);
+      expected.append(chunk);
+      framer.accept(bytes(chunk));
+    }
+    framer.accept(bytes("\nnext\n"));
+
+    assertThat(frames).containsExactly(expected.toString(), "next");
+  }
+
+  private static ByteBuffer bytes(String value) {
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
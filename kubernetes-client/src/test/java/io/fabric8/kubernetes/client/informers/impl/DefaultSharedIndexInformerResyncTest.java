@@ -54,7 +54,7 @@ class DefaultSharedIndexInformerResyncTest {
     Mockito.when(listerWatcher.submitWatch(Mockito.any(), Mockito.any()))
         .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
     PodList result = new PodListBuilder().withNewMetadata().endMetadata().build();
-    Mockito.when(listerWatcher.submitList(Mockito.any()))
+    Mockito.when(listerWatcher.submitList(Mockito.any(), Mockito.any(), Mockito.any()))
         .thenReturn(CompletableFuture.completedFuture(result));
   }
 
@@ -15,21 +15,37 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CacheTest {
 
@@ -160,6 +176,151 @@ class CacheTest {
     assertEquals(1, clusterNameIndexedPods.size());
   }
 
+  @Test
+  void testIndexFollowsUpdates() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    String nodeIndex = "node-index";
+    podCache.addIndexFunc(nodeIndex, pod -> Collections.singletonList(pod.getSpec().getNodeName()));
+
+    podCache.put(new PodBuilder()
+        .withNewMetadata().withNamespace("test").withName("test-pod").withResourceVersion("1").endMetadata()
+        .withNewSpec().withNodeName("node-1").endSpec()
+        .build());
+    List<String> keys = podCache.indexKeys(nodeIndex, "node-1");
+    assertEquals(Collections.singletonList("test/test-pod"), keys);
+    List<Pod> namespaced = podCache.byIndex(Cache.NAMESPACE_INDEX, "test");
+
+    Pod moved = new PodBuilder()
+        .withNewMetadata().withNamespace("test").withName("test-pod").withResourceVersion("2").endMetadata()
+        .withNewSpec().withNodeName("node-2").endSpec()
+        .build();
+    podCache.put(moved);
+
+    assertTrue(podCache.byIndex(nodeIndex, "node-1").isEmpty());
+    assertEquals(Collections.singletonList(moved), podCache.byIndex(nodeIndex, "node-2"));
+    assertEquals(Collections.singletonList(moved), podCache.byIndex(Cache.NAMESPACE_INDEX, "test"));
+    // previously returned results are not affected
+    assertEquals(Collections.singletonList("test/test-pod"), keys);
+    assertEquals("1", namespaced.get(0).getMetadata().getResourceVersion());
+
+    podCache.remove(moved);
+    assertTrue(podCache.byIndex(nodeIndex, "node-2").isEmpty());
+    assertTrue(podCache.byIndex(Cache.NAMESPACE_INDEX, "test").isEmpty());
+  }
+
+  @Test
+  void testConcurrentWriters() throws Exception {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    int writers = 4;
+    int podsPerWriter = 500;
+    ExecutorService executor = Executors.newFixedThreadPool(writers);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < writers; i++) {
+        String namespace = "ns" + (i % 2);
+        int writer = i;
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < podsPerWriter; j++) {
+            Pod pod = new PodBuilder().withNewMetadata().withNamespace(namespace).withName("pod-" + writer + "-" + j)
+                .endMetadata().build();
+            podCache.put(pod);
+            podCache.byIndex(Cache.NAMESPACE_INDEX, namespace);
+            if (j % 2 == 0) {
+              podCache.remove(pod);
+            }
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(writers * podsPerWriter / 2, podCache.list().size());
+    assertEquals(writers * podsPerWriter / 4, podCache.byIndex(Cache.NAMESPACE_INDEX, "ns0").size());
+    assertEquals(writers * podsPerWriter / 4, podCache.indexKeys(Cache.NAMESPACE_INDEX, "ns1").size());
+  }
+
+  @Test
+  void testNonConcurrentStoreWritesAreSerialized() throws Exception {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    AtomicInteger writing = new AtomicInteger();
+    AtomicBoolean overlapped = new AtomicBoolean();
+    Map<String, Pod> map = new HashMap<>();
+    podCache.setItemStore(new ItemStore<Pod>() {
+      @Override
+      public String getKey(Pod obj) {
+        return Cache.metaNamespaceKeyFunc(obj);
+      }
+
+      @Override
+      public Pod put(String key, Pod obj) {
+        return write(() -> map.put(key, obj));
+      }
+
+      @Override
+      public Pod remove(String key) {
+        return write(() -> map.remove(key));
+      }
+
+      private Pod write(Supplier<Pod> write) {
+        if (writing.incrementAndGet() > 1) {
+          overlapped.set(true);
+        }
+        try {
+          return write.get();
+        } finally {
+          writing.decrementAndGet();
+        }
+      }
+
+      @Override
+      public Stream<String> keySet() {
+        return new ArrayList<>(map.keySet()).stream();
+      }
+
+      @Override
+      public Stream<Pod> values() {
+        return new ArrayList<>(map.values()).stream();
+      }
+
+      @Override
+      public int size() {
+        return map.size();
+      }
+
+      @Override
+      public Pod get(String key) {
+        return map.get(key);
+      }
+    });
+    int writers = 4;
+    int podsPerWriter = 500;
+    ExecutorService executor = Executors.newFixedThreadPool(writers);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < writers; i++) {
+        String namespace = "ns" + i;
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < podsPerWriter; j++) {
+            podCache.put(new PodBuilder().withNewMetadata().withNamespace(namespace).withName("pod-" + j).endMetadata()
+                .build());
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertFalse(overlapped.get());
+    assertEquals(writers * podsPerWriter, podCache.list().size());
+  }
+
   private static List<String> mockIndexFunction(Object obj) {
     if (obj == null) {
       return Collections.singletonList("null");
@@ -174,4 +335,48 @@ class CacheTest {
     return String.valueOf(System.identityHashCode(obj));
   }
 
+  @Test
+  void testLabelIndexQuery() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    podCache.put(labeledPod("ns1", "web-1", "web", "prod"));
+    podCache.put(labeledPod("ns1", "web-2", "web", "dev"));
+    podCache.put(labeledPod("ns2", "web-3", "web", "prod"));
+    podCache.put(labeledPod("ns1", "db-1", "db", "prod"));
+
+    // indexes are populated from the existing items, and maintained afterwards
+    podCache.addLabelIndexes("app", "tier");
+    Pod moved = labeledPod("ns1", "db-2", "db", "dev");
+    podCache.put(moved);
+    podCache.put(labeledPod("ns1", "db-2", "web", "prod"));
+
+    LabelSelector webProd = new LabelSelectorBuilder().addToMatchLabels("app", "web")
+        .addNewMatchExpression().withKey("tier").withOperator("In").withValues("prod", "staging").endMatchExpression()
+        .build();
+    assertEquals(Arrays.asList("db-2", "web-1", "web-3"), names(podCache.byLabelSelector(webProd, null)));
+    assertEquals(Arrays.asList("db-2", "web-1"),
+        names(podCache.byIndex(Cache.NAMESPACE_INDEX, "ns1", webProd, null)));
+    assertEquals(Collections.singletonList("web-1"),
+        names(podCache.byLabelSelector(webProd, p -> p.getMetadata().getName().startsWith("web-1"))));
+
+    // not indexed and negative requirements are still evaluated
+    LabelSelector notProd = new LabelSelectorBuilder().addNewMatchExpression().withKey("tier").withOperator("NotIn")
+        .withValues("prod").endMatchExpression().addToMatchLabels("other", "x").build();
+    assertTrue(podCache.byLabelSelector(notProd, null).isEmpty());
+    assertEquals(Collections.singletonList("web-2"), names(podCache.byLabelSelector(new LabelSelectorBuilder()
+        .addNewMatchExpression().withKey("tier").withOperator("NotIn").withValues("prod").endMatchExpression().build(),
+        null)));
+
+    podCache.remove(moved);
+    assertEquals(Arrays.asList("web-1", "web-3"), names(podCache.byLabelSelector(webProd, null)));
+  }
+
+  private static Pod labeledPod(String namespace, String name, String app, String tier) {
+    return new PodBuilder().withNewMetadata().withNamespace(namespace).withName(name).addToLabels("app", app)
+        .addToLabels("tier", tier).endMetadata().build();
+  }
+
+  private static List<String> names(List<Pod> pods) {
+    return pods.stream().map(p -> p.getMetadata().getName()).sorted().collect(Collectors.toList());
+  }
+
 }
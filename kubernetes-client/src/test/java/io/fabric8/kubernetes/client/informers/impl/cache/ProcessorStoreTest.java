@@ -15,13 +15,17 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ReducedStateItemStore;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.AddNotification;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.DeleteNotification;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.Notification;
 import io.fabric8.kubernetes.client.informers.impl.cache.ProcessorListener.UpdateNotification;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -29,7 +33,10 @@ import org.mockito.Mockito;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -139,4 +146,114 @@ class ProcessorStoreTest {
     Mockito.verify(processor).distribute(Mockito.any(ProcessorListener.Notification.class), Mockito.anyBoolean());
   }
 
+  @Test
+  void testTransform() {
+    ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+    processorStore.setTransform(p -> {
+      p.getMetadata().setManagedFields(null);
+      return p;
+    });
+    processorStore.retainAll(Collections.emptySet(), null);
+
+    processorStore.add(new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("1")
+        .withManagedFields(new ManagedFieldsEntry()).endMetadata().build());
+    processorStore.delete(new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("2")
+        .withManagedFields(new ManagedFieldsEntry()).endMetadata().build());
+
+    Mockito.verify(processor, Mockito.times(2)).distribute(notificationCaptor.capture(), Mockito.eq(false));
+    AddNotification<Pod> add = (AddNotification<Pod>) notificationCaptor.getAllValues().get(0);
+    DeleteNotification<Pod> delete = (DeleteNotification<Pod>) notificationCaptor.getAllValues().get(1);
+    assertThat(add.getNewObject().getMetadata().getManagedFields()).isNullOrEmpty();
+    assertThat(delete.getOldObject().getMetadata().getManagedFields()).isNullOrEmpty();
+  }
+
+  @Test
+  void testRelistSkipsUnchanged() {
+    ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    ReducedStateItemStore<Pod> itemStore = Mockito.spy(new ReducedStateItemStore<>(ReducedStateItemStore.NAME_KEY_STATE,
+        Pod.class, new KubernetesSerialization()));
+    podCache.setItemStore(itemStore);
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+
+    ProcessorStore<Pod> processorStore = new ProcessorStore<>(podCache, processor);
+
+    Set<String> keys = Stream.of(pod("pod1", "1"), pod("pod2", "1")).map(processorStore::updateListed)
+        .collect(Collectors.toSet());
+    processorStore.retainAll(keys, null);
+
+    // relist with one unchanged, one modified and one new item
+    Mockito.clearInvocations(itemStore);
+    keys = Stream.of(pod("pod1", "1"), pod("pod2", "2"), pod("pod3", "1")).map(processorStore::updateListed)
+        .collect(Collectors.toSet());
+    processorStore.retainAll(keys, null);
+
+    Mockito.verify(itemStore, Mockito.never()).put(Mockito.eq("pod1"), Mockito.any());
+    Mockito.verify(itemStore, Mockito.never()).values();
+
+    // relist with deletes
+    processorStore.retainAll(Collections.singleton(processorStore.updateListed(pod("pod1", "1"))), null);
+
+    Mockito.verify(processor, Mockito.times(6)).distribute(notificationCaptor.capture(), Mockito.eq(false));
+    List<Notification<Pod>> notifications = notificationCaptor.getAllValues();
+    assertThat(notifications.get(0)).isInstanceOf(AddNotification.class);
+    assertThat(notifications.get(1)).isInstanceOf(AddNotification.class);
+    assertThat(notifications.get(2)).isInstanceOf(UpdateNotification.class);
+    assertThat(notifications.get(3)).isInstanceOf(AddNotification.class);
+    assertThat(notifications.get(4)).isInstanceOf(DeleteNotification.class);
+    assertThat(notifications.get(5)).isInstanceOf(DeleteNotification.class);
+    assertThat(podCache.listKeys()).containsExactly("pod1");
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName(name).withResourceVersion(resourceVersion).endMetadata().build();
+  }
+
+  @Test
+  void testNamespaceScopedRelist() {
+    ArgumentCaptor<Notification<Pod>> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = Mockito.mock(SharedProcessor.class);
+
+    ProcessorStore<Pod> ns1Store = new ProcessorStore<>(podCache, processor, "ns1", null);
+    ProcessorStore<Pod> ns2Store = new ProcessorStore<>(podCache, processor, "ns2", null);
+    Pod pod1 = new PodBuilder().withNewMetadata().withNamespace("ns1").withName("pod").withResourceVersion("1")
+        .endMetadata().build();
+    Pod pod2 = new PodBuilder().withNewMetadata().withNamespace("ns2").withName("pod").withResourceVersion("1")
+        .endMetadata().build();
+
+    ns1Store.retainAll(Collections.singleton(ns1Store.updateListed(pod1)), null);
+    ns2Store.retainAll(Collections.singleton(ns2Store.updateListed(pod2)), null);
+
+    // relisting ns1 does not remove the items of ns2
+    ns1Store.retainAll(Collections.emptySet(), null);
+
+    assertThat(podCache.listKeys()).containsExactly("ns2/pod");
+    Mockito.verify(processor, Mockito.times(3)).distribute(notificationCaptor.capture(), Mockito.eq(false));
+    assertThat(notificationCaptor.getAllValues().get(2)).isInstanceOf(DeleteNotification.class);
+    assertThat(notificationCaptor.getAllValues().get(2).getOldObject()).isSameAs(pod1);
+  }
+
+  @Test
+  void testNothingOnceAllNamespacesSynced() {
+    CacheImpl<Pod> podCache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = new SharedProcessor<>();
+    ResourceEventHandler<Pod> handler = Mockito.mock(ResourceEventHandler.class);
+    processor.addProcessorListener(handler, 0, Collections::emptyList);
+    AtomicInteger unsynced = new AtomicInteger(2);
+    ProcessorStore<Pod> ns1Store = new ProcessorStore<>(podCache, processor, "ns1", unsynced);
+    ProcessorStore<Pod> ns2Store = new ProcessorStore<>(podCache, processor, "ns2", unsynced);
+
+    // ns2 has not listed yet, so there may still be something
+    ns1Store.retainAll(Collections.emptySet(), null);
+    Mockito.verify(handler, Mockito.never()).onNothing();
+
+    ns2Store.retainAll(Collections.emptySet(), null);
+    Mockito.verify(handler).onNothing();
+  }
+
 }
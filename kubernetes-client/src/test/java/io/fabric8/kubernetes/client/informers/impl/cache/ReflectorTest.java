@@ -15,19 +15,25 @@
  */
 package io.fabric8.kubernetes.client.informers.impl.cache;
 
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.PodListBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watcher.Action;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.internal.AbstractWatchManager;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.impl.ListerWatcher;
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.exceptions.verification.TooFewActualInvocations;
 
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -41,6 +47,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
 
 class ReflectorTest {
 
@@ -60,7 +67,8 @@ class ReflectorTest {
   void testStateFlags() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
     PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
-    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitList(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list));
 
     Reflector<Pod, PodList> reflector = new Reflector<Pod, PodList>(mock, mockStore) {
       @Override
@@ -106,7 +114,8 @@ class ReflectorTest {
   void testNotRunningAfterStartError() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
     PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
-    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitList(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list));
 
     Reflector<Pod, PodList> reflector = new Reflector<Pod, PodList>(mock, mockStore);
 
@@ -126,7 +135,8 @@ class ReflectorTest {
   void testNonHttpGone() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
     PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
-    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitList(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list));
 
     Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
 
@@ -148,7 +158,8 @@ class ReflectorTest {
   void testTimeout() {
     ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
     PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata().build();
-    Mockito.when(mock.submitList(Mockito.any())).thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitList(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list));
 
     Executor ex = Mockito.mock(Executor.class);
     Mockito.doAnswer(invocation -> {
@@ -196,4 +207,151 @@ class ReflectorTest {
     });
   }
 
+  @Test
+  void testResumeFromInitialState() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.usingInitialState("5");
+
+    reflector.start().join();
+
+    assertTrue(reflector.isWatching());
+    assertEquals("5", reflector.getLastSyncResourceVersion());
+    Mockito.verify(mock, never()).submitList(Mockito.any(), Mockito.any(), Mockito.any());
+    Mockito.verify(mock).submitWatch(Mockito.argThat(options -> "5".equals(options.getResourceVersion())),
+        Mockito.any());
+  }
+
+  @Test
+  void testResumeFallsBackToList() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("7").endMetadata().build();
+    Mockito.when(mock.submitList(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list));
+    CompletableFuture<AbstractWatchManager<Pod>> gone = new CompletableFuture<>();
+    gone.completeExceptionally(new KubernetesClientException("gone", 410, null));
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(gone)
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+    ClientMetrics metrics = Mockito.mock(ClientMetrics.class);
+    Mockito.when(mock.getClientMetrics()).thenReturn(metrics);
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.usingInitialState("5");
+
+    reflector.start().join();
+
+    assertTrue(reflector.isWatching());
+    assertEquals("7", reflector.getLastSyncResourceVersion());
+    Mockito.verify(mock).submitList(Mockito.argThat((ListOptions options) -> options.getResourceVersion() == null),
+        Mockito.any(), Mockito.any());
+    Mockito.verify(mock).submitWatch(Mockito.argThat(options -> "7".equals(options.getResourceVersion())),
+        Mockito.any());
+    // the first list after resuming is not a relist
+    Mockito.verify(metrics, never()).informerRelisted(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  void testWatchList() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+    Mockito.when(mockStore.updateListed(Mockito.any())).thenReturn("default/pod");
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.setWatchList(true);
+
+    CompletableFuture<Void> future = reflector.start();
+
+    // not started until the end of the initial events
+    assertFalse(future.isDone());
+    Pod pod = new PodBuilder().withNewMetadata().withName("pod").withResourceVersion("3").endMetadata().build();
+    reflector.getWatcher().eventReceived(Action.ADDED, pod);
+    assertFalse(future.isDone());
+    reflector.getWatcher().eventReceived(Action.BOOKMARK, new PodBuilder().withNewMetadata().withResourceVersion("5")
+        .addToAnnotations(AbstractWatchManager.INITIAL_EVENTS_END_ANNOTATION, "true").endMetadata().build());
+
+    future.join();
+    assertTrue(reflector.isWatching());
+    assertEquals("5", reflector.getLastSyncResourceVersion());
+    Mockito.verify(mockStore).updateListed(pod);
+    Mockito.verify(mockStore).retainAll(Mockito.eq(Collections.singleton("default/pod")), Mockito.any());
+    Mockito.verify(mock, never()).submitList(Mockito.any(), Mockito.any(), Mockito.any());
+    Mockito.verify(mock).submitWatch(Mockito.argThat(options -> Boolean.TRUE.equals(options.getSendInitialEvents())
+        && "NotOlderThan".equals(options.getResourceVersionMatch())
+        && Boolean.TRUE.equals(options.getAllowWatchBookmarks())), Mockito.any());
+  }
+
+  @Test
+  void testResumeNotifiesHandlers() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+    CacheImpl<Pod> cache = new CacheImpl<>();
+    SharedProcessor<Pod> processor = new SharedProcessor<>();
+    ResourceEventHandler<Pod> handler = Mockito.mock(ResourceEventHandler.class);
+    processor.addProcessorListener(handler, 0, Collections::emptyList);
+    Pod restored = new PodBuilder().withNewMetadata().withName("restored").withNamespace("default")
+        .withResourceVersion("5").endMetadata().build();
+    cache.put(restored);
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, new ProcessorStore<>(cache, processor));
+    reflector.usingInitialState("5");
+    reflector.start().join();
+
+    Pod added = new PodBuilder().withNewMetadata().withName("added").withNamespace("default")
+        .withResourceVersion("6").endMetadata().build();
+    reflector.getWatcher().eventReceived(Action.ADDED, added);
+
+    // the add is not deferred until a list that never happens
+    Mockito.verify(handler).onAdd(added);
+    Mockito.verify(handler, never()).onAdd(restored);
+  }
+
+  @Test
+  void testResumeEmptyNotifiesNothing() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+    SharedProcessor<Pod> processor = new SharedProcessor<>();
+    ResourceEventHandler<Pod> handler = Mockito.mock(ResourceEventHandler.class);
+    processor.addProcessorListener(handler, 0, Collections::emptyList);
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, new ProcessorStore<>(new CacheImpl<>(), processor));
+    reflector.usingInitialState("5");
+    reflector.start().join();
+
+    Mockito.verify(handler).onNothing();
+  }
+
+  @Test
+  void testWatchListFallsBackToList() {
+    ListerWatcher<Pod, PodList> mock = Mockito.mock(ListerWatcher.class);
+    PodList list = new PodListBuilder().withNewMetadata().withResourceVersion("7").endMetadata().build();
+    Mockito.when(mock.submitList(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(list));
+    Mockito.when(mock.submitWatch(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(Mockito.mock(AbstractWatchManager.class)));
+
+    Reflector<Pod, PodList> reflector = new Reflector<>(mock, mockStore);
+    reflector.setWatchList(true);
+
+    CompletableFuture<Void> future = reflector.start();
+    assertFalse(future.isDone());
+
+    // the watch ended before the initial events were complete
+    reflector.getWatcher().onClose(new WatcherException("unsupported"));
+
+    future.join();
+    assertTrue(reflector.isWatching());
+    assertFalse(reflector.isStopped());
+    assertEquals("7", reflector.getLastSyncResourceVersion());
+    Mockito.verify(mock).submitList(Mockito.any(), Mockito.any(), Mockito.any());
+    Mockito.verify(mock).submitWatch(Mockito.argThat(options -> "7".equals(options.getResourceVersion())),
+        Mockito.any());
+  }
+
 }
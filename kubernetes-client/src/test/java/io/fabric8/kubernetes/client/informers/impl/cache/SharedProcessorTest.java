@@ -17,9 +17,24 @@ package io.fabric8.kubernetes.client.informers.impl.cache;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.informers.QueueOverflowPolicy;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SharedProcessorTest {
@@ -62,6 +77,227 @@ class SharedProcessorTest {
     sharedProcessor.distribute(addNotification, false);
   }
 
+  @Test
+  void testSlowListenerDoesNotBlockOthers() throws InterruptedException {
+    ExecutorService executorService = Executors.newCachedThreadPool();
+    try {
+      SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(executorService, "test");
+      CountDownLatch blocked = new CountDownLatch(1);
+      CountDownLatch received = new CountDownLatch(3);
+      sharedProcessor.addProcessorListener(new RecordingHandler() {
+        @Override
+        public void onAdd(Pod obj) {
+          try {
+            blocked.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      }, 0, Collections::emptyList);
+      sharedProcessor.addProcessorListener(new RecordingHandler() {
+        @Override
+        public void onAdd(Pod obj) {
+          received.countDown();
+        }
+      }, 0, Collections::emptyList);
+
+      for (int i = 0; i < 3; i++) {
+        sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo" + i, "1")), false);
+      }
+
+      assertTrue(received.await(5, TimeUnit.SECONDS));
+      assertThat(sharedProcessor.getEventQueueStatus()).extracting(s -> s.getPending()).containsExactly(2, 0);
+      blocked.countDown();
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void testBlockWhenFull() throws Exception {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(r -> {
+      synchronized (tasks) {
+        tasks.add(r);
+      }
+    }, "test");
+    sharedProcessor.setQueue(1, QueueOverflowPolicy.BLOCK);
+    RecordingHandler handler = new RecordingHandler();
+    sharedProcessor.addProcessorListener(handler, 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo", "1")), false);
+    CompletableFuture<Void> blocked = CompletableFuture.runAsync(
+        () -> sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("bar", "1")), false));
+
+    assertStillBlocked(blocked);
+    Runnable drain;
+    synchronized (tasks) {
+      drain = tasks.remove(0);
+    }
+    drain.run();
+    blocked.get(5, TimeUnit.SECONDS);
+    runAll(tasks);
+
+    assertEquals(List.of("add foo 1", "add bar 1"), handler.events);
+  }
+
+  @Test
+  void testCoalesceWhenFull() {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "test", CacheImpl::metaNamespaceKeyFunc,
+        k -> null);
+    sharedProcessor.setQueue(1, QueueOverflowPolicy.COALESCE);
+    RecordingHandler handler = new RecordingHandler();
+    sharedProcessor.addProcessorListener(handler, 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("foo", "1"), pod("foo", "2")), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("foo", "2"), pod("foo", "3")), false);
+    runAll(tasks);
+
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("foo", "3"), pod("foo", "4")), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("foo", "4"), pod("foo", "5")), false);
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod("foo", "5")), false);
+    runAll(tasks);
+
+    assertEquals(List.of("add foo 3", "delete foo 5"), handler.events);
+    assertEquals(4, sharedProcessor.getEventQueueStatus().get(0).getCoalesced());
+  }
+
+  @Test
+  void testCoalesceEvents() {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "test", CacheImpl::metaNamespaceKeyFunc,
+        k -> null);
+    sharedProcessor.setCoalescing(true);
+    RecordingHandler handler = new RecordingHandler();
+    sharedProcessor.addProcessorListener(handler, 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("foo", "1"), pod("foo", "2")), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("bar", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("foo", "2"), pod("foo", "3")), false);
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod("bar", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod("baz", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("baz", "2")), false);
+    runAll(tasks);
+
+    assertEquals(List.of("update foo 3", "delete baz 1", "add baz 2"), handler.events);
+    assertEquals(2, sharedProcessor.getEventQueueStatus().get(0).getCoalesced());
+  }
+
+  @Test
+  void testDropAndResyncWhenFull() {
+    List<Runnable> tasks = new ArrayList<>();
+    Map<String, Pod> state = new HashMap<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "test", CacheImpl::metaNamespaceKeyFunc,
+        state::get);
+    sharedProcessor.setQueue(1, QueueOverflowPolicy.DROP_AND_RESYNC);
+    RecordingHandler handler = new RecordingHandler();
+    sharedProcessor.addProcessorListener(handler, 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo", "1")), false);
+    // dropped
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("bar", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.DeleteNotification<>(pod("baz", "1")), false);
+    sharedProcessor.distribute(new ProcessorListener.UpdateNotification<>(pod("bar", "1"), pod("bar", "2")), false);
+    state.put("bar", pod("bar", "2"));
+    runAll(tasks);
+
+    assertEquals(List.of("add foo 1", "add bar 2", "delete baz 1"), handler.events);
+    assertEquals(3, sharedProcessor.getEventQueueStatus().get(0).getDropped());
+  }
+
+  @Test
+  void testStopClearsPending() {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "test");
+    RecordingHandler handler = new RecordingHandler();
+    sharedProcessor.addProcessorListener(handler, 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo", "1")), false);
+    sharedProcessor.stop();
+    runAll(tasks);
+
+    assertTrue(handler.events.isEmpty());
+  }
+
+  @Test
+  void testExecuteAfterPendingWithRemovedListener() {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "test");
+    RecordingHandler removed = new RecordingHandler();
+    RecordingHandler remaining = new RecordingHandler();
+    sharedProcessor.addProcessorListener(removed, 0, Collections::emptyList);
+    sharedProcessor.addProcessorListener(remaining, 0, Collections::emptyList);
+
+    // a relist is waiting for its notifications to be processed
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo", "1")), false);
+    CompletableFuture<Void> relisted = new CompletableFuture<>();
+    sharedProcessor.executeAfterPending(() -> relisted.complete(null));
+
+    sharedProcessor.removeProcessorListener(removed);
+    runAll(tasks);
+
+    assertTrue(relisted.isDone());
+    assertTrue(removed.events.isEmpty());
+    assertEquals(List.of("add foo 1"), remaining.events);
+  }
+
+  @Test
+  void testExecuteAfterPendingWhenStopped() {
+    List<Runnable> tasks = new ArrayList<>();
+    SharedProcessor<Pod> sharedProcessor = new SharedProcessor<>(tasks::add, "test");
+    sharedProcessor.addProcessorListener(new RecordingHandler(), 0, Collections::emptyList);
+
+    sharedProcessor.distribute(new ProcessorListener.AddNotification<>(pod("foo", "1")), false);
+    CompletableFuture<Void> relisted = new CompletableFuture<>();
+    sharedProcessor.executeAfterPending(() -> relisted.complete(null));
+    sharedProcessor.stop();
+
+    assertTrue(relisted.isDone());
+  }
+
+  private static void assertStillBlocked(CompletableFuture<Void> future) throws InterruptedException {
+    Thread.sleep(100);
+    assertFalse(future.isDone());
+  }
+
+  private static void runAll(List<Runnable> tasks) {
+    while (true) {
+      Runnable r;
+      synchronized (tasks) {
+        if (tasks.isEmpty()) {
+          return;
+        }
+        r = tasks.remove(0);
+      }
+      r.run();
+    }
+  }
+
+  private static Pod pod(String name, String resourceVersion) {
+    return new PodBuilder().withNewMetadata().withName(name).withResourceVersion(resourceVersion).endMetadata().build();
+  }
+
+  private static class RecordingHandler implements ResourceEventHandler<Pod> {
+    final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void onAdd(Pod obj) {
+      events.add("add " + obj.getMetadata().getName() + " " + obj.getMetadata().getResourceVersion());
+    }
+
+    @Override
+    public void onUpdate(Pod oldObj, Pod newObj) {
+      events.add("update " + newObj.getMetadata().getName() + " " + newObj.getMetadata().getResourceVersion());
+    }
+
+    @Override
+    public void onDelete(Pod obj, boolean deletedFinalStateUnknown) {
+      events.add("delete " + obj.getMetadata().getName() + " " + obj.getMetadata().getResourceVersion());
+    }
+  }
+
   private static class ExpectingNotificationHandler<T> extends ProcessorListener<T> {
     ExpectingNotificationHandler(Notification<T> notification) {
       this(new ResourceEventHandler<T>() {
@@ -16,27 +16,32 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesListBuilder;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource> {
 
@@ -91,74 +96,111 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
         }
       }
       mapping.mappings.putAll(DEFAULT_MAPPING.mappings);
+      mapping.index.putAll(DEFAULT_MAPPING.index);
     }
   }
 
   @Override
   public KubernetesResource deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-    final JsonNode node = jp.readValueAsTree();
-    return deserialize(jp, node);
-  }
-
-  final KubernetesResource deserialize(JsonParser jp, JsonNode node) throws IOException {
-    if (node.isObject()) {
-      return fromObjectNode(jp, node);
-    } else if (node.isArray()) {
-      return fromArrayNode(jp, node);
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME || token == JsonToken.END_OBJECT) {
+      return fromObject(jp, ctxt);
+    } else if (token == JsonToken.START_ARRAY) {
+      return fromArray(jp, ctxt);
+    } else if (token == JsonToken.VALUE_NULL) {
+      return null;
     }
-    Object object = node.traverse(jp.getCodec()).readValueAs(Object.class);
+    Object object = ctxt.readValue(jp, Object.class);
     if (object == null) {
       return null;
     }
     return new RawExtension(object);
   }
 
-  private KubernetesResource fromArrayNode(JsonParser jp, JsonNode node) throws IOException {
-    Iterator<JsonNode> iterator = node.elements();
+  private KubernetesResource fromArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
     List<HasMetadata> list = new ArrayList<>();
-    while (iterator.hasNext()) {
-      JsonNode jsonNode = iterator.next();
-      if (jsonNode.isObject()) {
-        KubernetesResource resource = fromObjectNode(jp, jsonNode);
-        if (!(resource instanceof HasMetadata)) {
-          throw new JsonMappingException(jp, "Cannot parse a nested array containing a non-HasMetadata resource");
-        }
-        list.add((HasMetadata) resource);
-      } else {
+    for (JsonToken token = jp.nextToken(); token != JsonToken.END_ARRAY; token = jp.nextToken()) {
+      if (token != JsonToken.START_OBJECT) {
         throw new JsonMappingException(jp, "Cannot parse a nested array containing non-object resource");
       }
+      KubernetesResource resource = fromObject(jp, ctxt);
+      if (!(resource instanceof HasMetadata)) {
+        throw new JsonMappingException(jp, "Cannot parse a nested array containing a non-HasMetadata resource");
+      }
+      list.add((HasMetadata) resource);
     }
     return new KubernetesListBuilder().withItems(list).build();
   }
 
-  private KubernetesResource fromObjectNode(JsonParser jp, JsonNode node) throws IOException {
-    TypeKey key = createKey(node);
+  /**
+   * Determines the type from the apiVersion and kind fields without building an intermediate tree.
+   * <p>
+   * Fields preceding apiVersion and kind are buffered, and once both are known the buffered tokens
+   * are replayed in front of the rest of the live parser. In the common case where apiVersion and
+   * kind come first, only those two fields are buffered.
+   */
+  private KubernetesResource fromObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+    TokenBuffer buffer = ctxt.bufferForInputBuffering(jp);
+    buffer.writeStartObject();
+    String apiVersion = null;
+    String kind = null;
+    JsonToken token = jp.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    boolean typeKnown = false;
+    for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+      String name = jp.currentName();
+      buffer.writeFieldName(name);
+      JsonToken value = jp.nextToken();
+      if (value == JsonToken.VALUE_STRING && (API_VERSION.equals(name) || KIND.equals(name))) {
+        String text = jp.getText();
+        buffer.writeString(text);
+        if (API_VERSION.equals(name)) {
+          apiVersion = text;
+        } else {
+          kind = text;
+        }
+        if (apiVersion != null && kind != null) {
+          typeKnown = true;
+          break;
+        }
+      } else {
+        buffer.copyCurrentStructure(jp);
+      }
+    }
+
+    JsonParser parser;
+    if (typeKnown) {
+      parser = JsonParserSequence.createFlattened(false, buffer.asParser(jp), jp);
+    } else {
+      buffer.writeEndObject();
+      parser = buffer.asParser(jp);
+    }
+    parser.nextToken();
+
+    Class<? extends KubernetesResource> resourceType = getResourceType(jp, mapping.createKey(apiVersion, kind));
+    return ctxt.readValue(parser, resourceType);
+  }
+
+  private Class<? extends KubernetesResource> getResourceType(JsonParser jp, TypeKey key) throws JsonMappingException {
     Class<? extends KubernetesResource> resourceType = mapping.getForKey(key);
     if (resourceType == null) {
       if (key == null) {
         // just a wrapper around a map
         // if this raw mapping typed as HasMetadata, a failure will result
-        return jp.getCodec().treeToValue(node, RawExtension.class);
+        return RawExtension.class;
       }
       // this is not quite correct as not all resources have metadata - see LocalResourceAccessReview
-      return jp.getCodec().treeToValue(node, GenericKubernetesResource.class);
+      return GenericKubernetesResource.class;
     } else if (KubernetesResource.class.isAssignableFrom(resourceType)) {
-      return jp.getCodec().treeToValue(node, resourceType);
+      return resourceType;
     }
     throw new JsonMappingException(jp, String.format(
         "There's a class loading issue, %s is registered as a KubernetesResource, but is not an instance of KubernetesResource",
         resourceType.getName()));
   }
 
-  private TypeKey createKey(JsonNode node) {
-    JsonNode apiVersion = node.get(API_VERSION);
-    JsonNode kind = node.get(KIND);
-
-    return mapping.createKey(
-        apiVersion != null ? apiVersion.textValue() : null,
-        kind != null ? kind.textValue() : null);
-  }
-
   /**
    * Registers a Custom Resource Definition Kind
    */
@@ -181,13 +223,24 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
 
   static class Mapping {
 
+    static final String SERVICE_RESOURCE = "META-INF/services/" + KubernetesResource.class.getName();
+
     private final Map<TypeKey, Class<? extends KubernetesResource>> mappings = new ConcurrentHashMap<>();
+    // classes known only by name, loaded the first time their key is requested
+    private final Map<TypeKey, IndexedClass> index = new ConcurrentHashMap<>();
 
     public Class<? extends KubernetesResource> getForKey(TypeKey key) {
       if (key == null) {
         return null;
       }
-      return mappings.get(key);
+      Class<? extends KubernetesResource> result = mappings.get(key);
+      if (result == null) {
+        IndexedClass indexed = index.get(key);
+        if (indexed != null) {
+          result = indexed.load();
+        }
+      }
+      return result;
     }
 
     public void registerKind(String apiVersion, String kind, Class<? extends KubernetesResource> clazz) {
@@ -208,15 +261,56 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
       return new TypeKey(kind, versionParts[0], versionParts[1]);
     }
 
+    /**
+     * Indexes the {@link KubernetesResource} service entries visible to the context and the model class loaders.
+     * <p>
+     * The generated service files annotate each class name with its apiVersion and kind, so such classes are
+     * only loaded once a resource of that kind is first deserialized. Entries without that information, for
+     * example from hand-written service files, are loaded, but not instantiated, immediately.
+     */
     void registerClassesFromClassLoaders() {
       Stream.of(Thread.currentThread().getContextClassLoader(), KubernetesDeserializer.class.getClassLoader())
           .filter(Objects::nonNull)
-          .map(cl -> ServiceLoader.load(KubernetesResource.class, cl))
-          .map(ServiceLoader::iterator)
-          .map(i -> (Iterable<KubernetesResource>) () -> i)
-          .flatMap(i -> StreamSupport.stream(i.spliterator(), false))
-          .map(KubernetesResource::getClass)
-          .forEach(this::addMapping);
+          .distinct()
+          .forEach(this::registerClassesFromClassLoader);
+    }
+
+    private void registerClassesFromClassLoader(ClassLoader classLoader) {
+      try {
+        Enumeration<URL> resources = classLoader.getResources(SERVICE_RESOURCE);
+        while (resources.hasMoreElements()) {
+          try (BufferedReader reader = new BufferedReader(
+              new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+              registerServiceEntry(line, classLoader);
+            }
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read " + SERVICE_RESOURCE, e);
+      }
+    }
+
+    void registerServiceEntry(String line, ClassLoader classLoader) {
+      int commentIndex = line.indexOf('#');
+      String className = (commentIndex < 0 ? line : line.substring(0, commentIndex)).trim();
+      if (className.isEmpty()) {
+        return;
+      }
+      String[] typeInfo = commentIndex < 0 ? new String[0] : line.substring(commentIndex + 1).trim().split("\\s+");
+      if (typeInfo.length == 2) {
+        addIndex(createKey(typeInfo[0], typeInfo[1]), new IndexedClass(className, classLoader));
+        return;
+      }
+      try {
+        Class<?> clazz = Class.forName(className, false, classLoader);
+        if (KubernetesResource.class.isAssignableFrom(clazz)) {
+          addMapping(clazz.asSubclass(KubernetesResource.class));
+        }
+      } catch (ClassNotFoundException | LinkageError e) {
+        // same as an unloadable service - the kind will be treated as generic
+      }
     }
 
     TypeKey getKeyFromClass(Class<? extends KubernetesResource> clazz) {
@@ -239,10 +333,54 @@ public class KubernetesDeserializer extends JsonDeserializer<KubernetesResource>
       mappings.put(keyFromClass, clazz);
 
       // oc behavior - allow resolving against just the version
-      if (keyFromClass.apiGroup != null && keyFromClass.apiGroup.endsWith(".openshift.io")) {
+      if (isOpenShiftGroup(keyFromClass)) {
         mappings.putIfAbsent(new TypeKey(keyFromClass.kind, null, keyFromClass.version), clazz);
       }
     }
+
+    private void addIndex(TypeKey key, IndexedClass indexedClass) {
+      index.put(key, indexedClass);
+
+      // oc behavior - allow resolving against just the version
+      if (isOpenShiftGroup(key)) {
+        index.putIfAbsent(new TypeKey(key.kind, null, key.version), indexedClass);
+      }
+    }
+
+    private static boolean isOpenShiftGroup(TypeKey key) {
+      return key.apiGroup != null && key.apiGroup.endsWith(".openshift.io");
+    }
+  }
+
+  /**
+   * A class referenced by name that is loaded, but not initialized, on first use
+   */
+  static final class IndexedClass {
+
+    private final String className;
+    private final ClassLoader classLoader;
+    private volatile Class<? extends KubernetesResource> clazz;
+    private volatile boolean failed;
+
+    IndexedClass(String className, ClassLoader classLoader) {
+      this.className = className;
+      this.classLoader = classLoader;
+    }
+
+    @SuppressWarnings("unchecked")
+    Class<? extends KubernetesResource> load() {
+      Class<? extends KubernetesResource> result = clazz;
+      if (result == null && !failed) {
+        try {
+          result = (Class<? extends KubernetesResource>) Class.forName(className, false, classLoader);
+          clazz = result;
+        } catch (ClassNotFoundException | LinkageError e) {
+          // same as an unloadable service - the kind will be treated as generic
+          failed = true;
+        }
+      }
+      return result;
+    }
   }
 
   public Class<? extends KubernetesResource> getRegisteredKind(String apiVersion, String kind) {
@@ -16,6 +16,7 @@
 package io.fabric8.kubernetes.internal;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -23,7 +24,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.Map;
 
 public class KubernetesDeserializerForMap extends JsonDeserializer<Map<String, KubernetesResource>> {
@@ -36,14 +36,18 @@ public class KubernetesDeserializerForMap extends JsonDeserializer<Map<String, K
 
   @Override
   public Map<String, KubernetesResource> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-    final JsonNode node = p.readValueAsTree();
-    if (!node.isObject()) {
-      throw new JsonMappingException(p, "Expected map but found " + node.getNodeType());
+    String name;
+    if (p.isExpectedStartObjectToken()) {
+      name = p.nextFieldName();
+    } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+      name = p.currentName();
+    } else {
+      throw new JsonMappingException(p, "Expected map but found " + p.<JsonNode> readValueAsTree().getNodeType());
     }
     final Map<String, KubernetesResource> ret = new java.util.LinkedHashMap<>();
-    for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
-      final Map.Entry<String, JsonNode> entry = it.next();
-      ret.put(entry.getKey(), kubernetesDeserializer.deserialize(p, entry.getValue()));
+    for (; name != null; name = p.nextFieldName()) {
+      p.nextToken();
+      ret.put(name, kubernetesDeserializer.deserialize(p, ctxt));
     }
     return ret;
   }
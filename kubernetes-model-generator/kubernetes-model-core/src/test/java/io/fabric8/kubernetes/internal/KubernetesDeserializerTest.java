@@ -15,9 +15,12 @@
  */
 package io.fabric8.kubernetes.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.runtime.RawExtension;
 import io.fabric8.kubernetes.internal.KubernetesDeserializer.TypeKey;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Kind;
@@ -25,6 +28,14 @@ import io.fabric8.kubernetes.model.annotation.Version;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class KubernetesDeserializerTest {
@@ -126,6 +137,114 @@ class KubernetesDeserializerTest {
     assertThat(clazz).isNull();
   }
 
+  @Test
+  void shouldDeserializeWhenTypeFieldsComeFirst() throws Exception {
+    // given
+    String json = "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"pod\"},\"spec\":{\"nodeName\":\"node\"}}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource)
+        .isInstanceOf(Pod.class)
+        .hasFieldOrPropertyWithValue("metadata.name", "pod")
+        .hasFieldOrPropertyWithValue("spec.nodeName", "node");
+  }
+
+  @Test
+  void shouldDeserializeWhenTypeFieldsComeLast() throws Exception {
+    // given
+    String json = "{\"metadata\":{\"name\":\"pod\",\"labels\":{\"kind\":\"x\"}},\"spec\":{\"nodeName\":\"node\"},"
+        + "\"kind\":\"Pod\",\"apiVersion\":\"v1\"}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource)
+        .isInstanceOf(Pod.class)
+        .hasFieldOrPropertyWithValue("metadata.name", "pod")
+        .hasFieldOrPropertyWithValue("metadata.labels.kind", "x")
+        .hasFieldOrPropertyWithValue("spec.nodeName", "node");
+  }
+
+  @Test
+  void shouldDeserializeUnknownKindAsGeneric() throws Exception {
+    // given
+    String json = "{\"kind\":\"Generic\",\"metadata\":{\"name\":\"generic\"},\"apiVersion\":\"example.com/v1\",\"spec\":{\"a\":1}}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource)
+        .isInstanceOf(GenericKubernetesResource.class)
+        .hasFieldOrPropertyWithValue("apiVersion", "example.com/v1")
+        .hasFieldOrPropertyWithValue("kind", "Generic")
+        .hasFieldOrPropertyWithValue("metadata.name", "generic")
+        .hasFieldOrPropertyWithValue("additionalProperties.spec.a", 1);
+  }
+
+  @Test
+  void shouldDeserializeWithoutTypeFieldsAsRaw() throws Exception {
+    // given
+    String json = "{\"kind\":1,\"name\":\"raw\"}";
+    // when
+    KubernetesResource resource = new ObjectMapper().readValue(json, KubernetesResource.class);
+    // then
+    assertThat(resource)
+        .isInstanceOf(RawExtension.class)
+        .hasFieldOrPropertyWithValue("value.kind", 1)
+        .hasFieldOrPropertyWithValue("value.name", "raw");
+  }
+
+  @Test
+  void shouldIndexGeneratedServiceEntryByApiVersionAndKind() {
+    // given
+    mapping.registerServiceEntry(SmurfResource.class.getName() + " # smurf.example.com/v1 Smurf", getClass().getClassLoader());
+    // when
+    Class<? extends KubernetesResource> clazz = mapping.getForKey(mapping.createKey("smurf.example.com/v1", "Smurf"));
+    // then
+    assertThat(clazz).isEqualTo(SmurfResource.class);
+  }
+
+  @Test
+  void shouldIgnoreIndexedServiceEntryThatCannotBeLoaded() {
+    // given
+    mapping.registerServiceEntry("io.fabric8.kubernetes.internal.DoesNotExist # example.com/v1 Missing",
+        getClass().getClassLoader());
+    // when
+    Class<? extends KubernetesResource> clazz = mapping.getForKey(mapping.createKey("example.com/v1", "Missing"));
+    // then
+    assertThat(clazz).isNull();
+  }
+
+  @Test
+  void shouldLoadServiceEntryWithoutTypeInformation() {
+    // given
+    mapping.registerServiceEntry(SmurfResource.class.getName(), getClass().getClassLoader());
+    // when
+    Class<? extends KubernetesResource> clazz = mapping.getForKey(mapping.createKey("42", "Hitchhiker"));
+    // then
+    assertThat(clazz).isEqualTo(SmurfResource.class);
+  }
+
+  @Test
+  void indexedServiceEntriesShouldMatchClassAnnotations() throws Exception {
+    // given
+    List<String> entries = new ArrayList<>();
+    Enumeration<URL> resources = getClass().getClassLoader().getResources(KubernetesDeserializer.Mapping.SERVICE_RESOURCE);
+    while (resources.hasMoreElements()) {
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+        reader.lines().filter(line -> line.contains("#") && !line.startsWith("#")).forEach(entries::add);
+      }
+    }
+    assertThat(entries).isNotEmpty();
+    for (String entry : entries) {
+      // when
+      String[] parts = entry.split("\\s*#\\s*|\\s+");
+      Class<? extends KubernetesResource> clazz = Class.forName(parts[0]).asSubclass(KubernetesResource.class);
+      // then
+      assertThat(mapping.createKey(parts[1], parts[2])).as(entry).isEqualTo(mapping.getKeyFromClass(clazz));
+    }
+  }
+
   @Group("")
   @Kind("Hitchhiker")
   @Version("42")
@@ -18,18 +18,32 @@ package io.fabric8.kubernetes.client.mock;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.impl.BaseClient;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.SharedInformerFactory;
+import io.fabric8.kubernetes.client.informers.impl.DefaultSharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.impl.InformerRegistry;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnableKubernetesMockClient(crud = true)
 class CrudInformerTest {
@@ -65,4 +79,165 @@ class CrudInformerTest {
     assertEquals(readPod.getMetadata().getName(), podToCreate.getMetadata().getName());
     factory.stopAllRegisteredInformers();
   }
+
+  @Test
+  void testWatchListInformer() throws InterruptedException {
+    client.pods().resource(new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build()).create();
+    SharedIndexInformer<Pod> podInformer = client.pods().runnableInformer(0).watchList(true);
+    BlockingQueue<Pod> events = new LinkedBlockingQueue<>();
+    podInformer.addEventHandler(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        events.add(obj);
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+      }
+
+      @Override
+      public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) {
+      }
+    });
+
+    podInformer.start().toCompletableFuture().join();
+
+    assertEquals(1, podInformer.getStore().list().size());
+    assertEquals("pod1", events.poll(10, TimeUnit.SECONDS).getMetadata().getName());
+    assertNotNull(podInformer.lastSyncResourceVersion());
+    client.pods().resource(new PodBuilder().withNewMetadata().withName("pod2").endMetadata().build()).create();
+    assertEquals("pod2", events.poll(10, TimeUnit.SECONDS).getMetadata().getName());
+    podInformer.stop();
+  }
+
+  @Test
+  void testMultiNamespaceInformer() throws InterruptedException {
+    client.pods().inNamespace("ns1").resource(new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build())
+        .create();
+    client.pods().inNamespace("ns2").resource(new PodBuilder().withNewMetadata().withName("pod2").endMetadata().build())
+        .create();
+    client.pods().inNamespace("ns3").resource(new PodBuilder().withNewMetadata().withName("pod3").endMetadata().build())
+        .create();
+    SharedIndexInformer<Pod> podInformer = client.pods().runnableInformer(Arrays.asList("ns1", "ns2"), 0);
+    BlockingQueue<Pod> deletes = new LinkedBlockingQueue<>();
+    podInformer.addEventHandler(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+      }
+
+      @Override
+      public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) {
+        deletes.add(oldObj);
+      }
+    });
+
+    podInformer.run();
+
+    assertEquals(Arrays.asList("ns1/pod1", "ns2/pod2"), podInformer.getStore().listKeys().stream().sorted()
+        .collect(Collectors.toList()));
+    assertEquals(2, ((DefaultSharedIndexInformer<Pod, ?>) podInformer).lastSyncResourceVersions().size());
+    assertNotNull(podInformer.lastSyncResourceVersion());
+    client.pods().inNamespace("ns2").withName("pod2").delete();
+    assertEquals("pod2", deletes.poll(10, TimeUnit.SECONDS).getMetadata().getName());
+    assertEquals(Collections.singletonList("ns1/pod1"), podInformer.getStore().listKeys());
+    podInformer.stop();
+  }
+
+  @Test
+  void testSharedInformer() throws InterruptedException {
+    client.pods().inNamespace("ns1").resource(new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build())
+        .create();
+    InformerRegistry registry = client.adapt(BaseClient.class).getInformerRegistry();
+
+    SharedIndexInformer<Pod> first = client.pods().inNamespace("ns1").sharedInformer();
+    SharedIndexInformer<Pod> second = client.pods().inNamespace("ns1").sharedInformer();
+    SharedIndexInformer<Pod> other = client.pods().inNamespace("ns1").withLabel("app", "x").sharedInformer();
+
+    assertEquals(2, registry.size());
+    assertSame(first.getStore(), second.getStore());
+    assertEquals(1, second.getStore().list().size());
+    BlockingQueue<Pod> events = new LinkedBlockingQueue<>();
+    second.addEventHandler(new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+        events.add(obj);
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+      }
+
+      @Override
+      public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) {
+      }
+    });
+    assertEquals("pod1", events.poll(10, TimeUnit.SECONDS).getMetadata().getName());
+
+    // the watch is only stopped by the last view
+    first.stop();
+    assertFalse(first.isRunning());
+    assertTrue(second.isRunning());
+    second.stop();
+    other.close();
+    assertEquals(0, registry.size());
+    assertTrue(second.stopped().toCompletableFuture().isDone());
+  }
+
+  @Test
+  void testSharedInformerIndexers() {
+    client.pods().inNamespace("ns1").resource(new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build())
+        .create();
+    InformerRegistry registry = client.adapt(BaseClient.class).getInformerRegistry();
+    Map<String, Function<Pod, List<String>>> byName = Collections.singletonMap("byName",
+        pod -> Collections.singletonList(pod.getMetadata().getName()));
+
+    SharedIndexInformer<Pod> first = client.pods().inNamespace("ns1").withIndexers(byName).sharedInformer();
+    SharedIndexInformer<Pod> second = client.pods().inNamespace("ns1").withIndexers(byName).sharedInformer();
+    SharedIndexInformer<Pod> unindexed = client.pods().inNamespace("ns1").sharedInformer();
+
+    // the indexers are part of the key, so both views see the index
+    assertEquals(2, registry.size());
+    assertEquals(1, second.getIndexer().byIndex("byName", "pod1").size());
+    // registering the same indexer through a view would conflict with the other views
+    assertThrows(KubernetesClientException.class, () -> first.addIndexers(byName));
+    assertThrows(KubernetesClientException.class, () -> second.addIndexers(byName));
+    assertThrows(KubernetesClientException.class, () -> first.removeIndexer("byName"));
+    assertEquals(1, first.getIndexer().byIndex("byName", "pod1").size());
+
+    first.stop();
+    second.stop();
+    unindexed.stop();
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  void testSharedInformerViewOnlyRemovesOwnHandlers() {
+    SharedIndexInformer<Pod> first = client.pods().inNamespace("ns1").sharedInformer();
+    SharedIndexInformer<Pod> second = client.pods().inNamespace("ns1").sharedInformer();
+    ResourceEventHandler<Pod> handler = new ResourceEventHandler<Pod>() {
+      @Override
+      public void onAdd(Pod obj) {
+      }
+
+      @Override
+      public void onUpdate(Pod oldObj, Pod newObj) {
+      }
+
+      @Override
+      public void onDelete(Pod oldObj, boolean deletedFinalStateUnknown) {
+      }
+    };
+    first.addEventHandler(handler);
+
+    second.removeEventHandler(handler);
+    second.stop();
+
+    assertEquals(1, first.getEventQueueStatus().size());
+    assertThrows(KubernetesClientException.class, () -> second.addEventHandler(handler));
+    first.stop();
+  }
 }
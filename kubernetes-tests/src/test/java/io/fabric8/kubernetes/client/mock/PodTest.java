@@ -18,6 +18,8 @@ package io.fabric8.kubernetes.client.mock;
 import io.fabric8.kubernetes.api.model.DeleteOptionsBuilder;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadata;
+import io.fabric8.kubernetes.api.model.PartialObjectMetadataList;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
@@ -36,7 +38,9 @@ import io.fabric8.kubernetes.client.dsl.ExecListener;
 import io.fabric8.kubernetes.client.dsl.ExecWatch;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
+import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.internal.core.v1.PodOperationsImpl;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.fabric8.kubernetes.client.server.mock.ErrorStreamMessage;
 import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
@@ -45,6 +49,7 @@ import io.fabric8.kubernetes.client.server.mock.StatusMessage;
 import io.fabric8.kubernetes.client.server.mock.StatusStreamMessage;
 import io.fabric8.kubernetes.client.utils.InputStreamPumper;
 import io.fabric8.kubernetes.client.utils.Utils;
+import io.fabric8.mockwebserver.http.RecordedRequest;
 import io.fabric8.mockwebserver.internal.WebSocketMessage;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
@@ -130,6 +135,99 @@ class PodTest {
     assertEquals(3, podList.getItems().size());
   }
 
+  @Test
+  void testListMetadataOnly() throws InterruptedException {
+    // the mock server does not transform the response, so the full resources are returned
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?labelSelector=" + Utils.toUrlEncoded("app=x"))
+        .andReturn(200, new PodListBuilder()
+            .addNewItem()
+            .withNewMetadata().withName("pod1").withNamespace("test").addToLabels("app", "x").endMetadata()
+            .withNewSpec().withNodeName("node").endSpec()
+            .and()
+            .build())
+        .once();
+
+    PartialObjectMetadataList list = client.pods().withLabel("app", "x").metadataOnly().list();
+
+    assertEquals(1, list.getItems().size());
+    PartialObjectMetadata item = list.getItems().get(0);
+    assertEquals("pod1", item.getMetadata().getName());
+    assertEquals("x", item.getMetadata().getLabels().get("app"));
+    assertTrue(server.getLastRequest().getHeader("Accept").startsWith("application/json;as=PartialObjectMetadataList"));
+  }
+
+  @Test
+  void testWatchMetadataOnly() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").withResourceVersion("1")
+        .endMetadata().withNewSpec().withNodeName("node").endSpec().build();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .waitFor(50)
+        .andEmit(new WatchEvent(pod1, "ADDED"))
+        .done()
+        .always();
+    final CountDownLatch addLatch = new CountDownLatch(1);
+    final Watcher<PartialObjectMetadata> watcher = new Watcher<PartialObjectMetadata>() {
+      @Override
+      public void eventReceived(Action action, PartialObjectMetadata resource) {
+        if (action == Action.ADDED && "pod1".equals(resource.getMetadata().getName())) {
+          addLatch.countDown();
+        }
+      }
+
+      @Override
+      public void onClose(WatcherException cause) {
+      }
+    };
+
+    final Watch watch = client.pods().metadataOnly().watch(watcher);
+
+    assertTrue(addLatch.await(10, TimeUnit.SECONDS));
+    assertTrue(server.getLastRequest().getHeader("Accept").contains("as=PartialObjectMetadata"));
+    watch.close();
+  }
+
+  @Test
+  void testInformMetadataOnly() throws InterruptedException {
+    Pod pod1 = new PodBuilder().withNewMetadata().withName("pod1").withNamespace("test").withResourceVersion("1")
+        .endMetadata().withNewSpec().withNodeName("node").endSpec().build();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?resourceVersion=0")
+        .andReturn(200, new PodListBuilder().withNewMetadata().withResourceVersion("1").endMetadata()
+            .addToItems(pod1).build())
+        .once();
+    server.expect()
+        .withPath("/api/v1/namespaces/test/pods?allowWatchBookmarks=true&resourceVersion=1&timeoutSeconds=600&watch=true")
+        .andUpgradeToWebSocket()
+        .open()
+        .done()
+        .always();
+
+    SharedIndexInformer<PartialObjectMetadata> informer = client.pods().metadataOnly().inform();
+
+    assertEquals(1, informer.getStore().list().size());
+    assertEquals("pod1", informer.getStore().list().get(0).getMetadata().getName());
+    RecordedRequest list = server.takeRequest();
+    assertTrue(list.getPath().contains("resourceVersion=0"));
+    assertTrue(list.getHeader("Accept").startsWith("application/json;as=PartialObjectMetadataList"));
+    informer.stop();
+  }
+
+  @Test
+  void testUpdateMetadataOnlyIsRejected() {
+    PartialObjectMetadata metadata = new PartialObjectMetadata();
+    metadata.setMetadata(new PodBuilder().withNewMetadata().withName("pod1").endMetadata().build().getMetadata());
+    Resource<PartialObjectMetadata> resource = client.pods().metadataOnly().resource(metadata);
+
+    // writing back only the metadata would drop the spec
+    assertThrows(KubernetesClientException.class, resource::update);
+    assertThrows(KubernetesClientException.class, resource::create);
+    assertThrows(KubernetesClientException.class, resource::serverSideApply);
+  }
+
   @Test
   void testListWithLabels() {
     server.expect()
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.micrometer;
+
+import io.fabric8.kubernetes.client.metrics.ClientMetrics;
+import io.fabric8.kubernetes.client.metrics.RequestMetric;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the client metrics to a {@link MeterRegistry}.
+ * <p>
+ * Register by tagging the client builder, for example
+ * {@code new KubernetesClientBuilder().withHttpClientBuilderConsumer(b -> b.tag(new MicrometerClientMetrics(registry)))}.
+ */
+public class MicrometerClientMetrics implements ClientMetrics {
+
+  public static final String REQUESTS = "kubernetes.client.requests";
+  public static final String RESPONSE_SIZE = "kubernetes.client.response.size";
+  public static final String RETRIES = "kubernetes.client.request.retries";
+  public static final String WATCH_RECONNECTS = "kubernetes.client.watch.reconnects";
+  public static final String INFORMER_RELISTS = "kubernetes.client.informer.relists";
+
+  private static final String NONE = "none";
+
+  private final MeterRegistry registry;
+
+  public MicrometerClientMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void requestCompleted(RequestMetric metric) {
+    Tags tags = Tags.of(
+        "verb", metric.getVerb(),
+        "resource", valueOrNone(metric.getResource()),
+        "namespace", valueOrNone(metric.getNamespace()),
+        "status", Integer.toString(metric.getStatusCode()));
+    Timer.builder(REQUESTS).tags(tags).register(registry).record(metric.getDuration(TimeUnit.NANOSECONDS),
+        TimeUnit.NANOSECONDS);
+    DistributionSummary.builder(RESPONSE_SIZE).baseUnit("bytes").tags(tags).register(registry)
+        .record(metric.getResponseBytes());
+    if (metric.getRetries() > 0) {
+      Counter.builder(RETRIES).tags(tags).register(registry).increment(metric.getRetries());
+    }
+  }
+
+  @Override
+  public void watchReconnected(String resource, String namespace) {
+    registry.counter(WATCH_RECONNECTS, resourceTags(resource, namespace)).increment();
+  }
+
+  @Override
+  public void informerRelisted(String resource, String namespace) {
+    registry.counter(INFORMER_RELISTS, resourceTags(resource, namespace)).increment();
+  }
+
+  private static Tags resourceTags(String resource, String namespace) {
+    return Tags.of("resource", valueOrNone(resource), "namespace", valueOrNone(namespace));
+  }
+
+  private static String valueOrNone(String value) {
+    return value == null ? NONE : value;
+  }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2015 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fabric8.kubernetes.client.micrometer;
+
+import io.fabric8.kubernetes.client.metrics.RequestMetric;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerClientMetricsTest {
+
+  @Test
+  void recordsRequestsAndEvents() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    MicrometerClientMetrics metrics = new MicrometerClientMetrics(registry);
+
+    metrics.requestCompleted(new RequestMetric("GET", "pods", "default", 200, TimeUnit.MILLISECONDS.toNanos(5), 100, 1));
+    metrics.watchReconnected("pods", null);
+    metrics.informerRelisted("pods", null);
+
+    assertThat(registry.get(MicrometerClientMetrics.REQUESTS).tag("verb", "GET").tag("status", "200").timer().count())
+        .isEqualTo(1);
+    assertThat(registry.get(MicrometerClientMetrics.RESPONSE_SIZE).summary().totalAmount()).isEqualTo(100);
+    assertThat(registry.get(MicrometerClientMetrics.RETRIES).counter().count()).isEqualTo(1);
+    assertThat(registry.get(MicrometerClientMetrics.WATCH_RECONNECTS).tag("namespace", "none").counter().count())
+        .isEqualTo(1);
+    assertThat(registry.get(MicrometerClientMetrics.INFORMER_RELISTS).counter().count()).isEqualTo(1);
+  }
+
+}